@@ -0,0 +1,35 @@
+package javafxeasterdatecalculator;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/*
+ * Entry point of benchmarks.jar.
+ *
+ * It accepts the same command line options as the standard JMH runner, but it always adds the GC profiler,
+ * so that every result also reports the allocation rate (gc.alloc.rate.norm = bytes allocated per operation).
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args) throws Exception {
+
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+
+    Options options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .addProfiler(GCProfiler.class)
+        .build();
+
+    new Runner(options).run();
+
+  }
+
+}
@@ -0,0 +1,94 @@
+package javafxeasterdatecalculator;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Benchmarks for CalendarConversions: columns of dates converted from Julian dates to epoch days and back, compared with JulianDate.
+ *
+ * The dates are spread over the years [1000, 2000), either in ascending order (about 40 dates per year, like the records of an archive)
+ * or in random order. The column holds a single block, so it is converted by the calling thread and the results are per thread.
+ * The throughput is given in dates per second.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CalendarConversionsBenchmark {
+
+  static final int DATES = 1 << 14;
+
+  @Param({"sorted", "random"})
+  String order;
+
+  private long[] epochDays, packedDates, destination;
+  private JulianDate[] dates;
+
+  @Setup
+  public void setUp(){
+
+    SplittableRandom random = new SplittableRandom(1583);
+    long firstDay = JulianDays.toEpochDay(1000, 1, 1);
+    long lastDay = JulianDays.toEpochDay(2000, 1, 1);
+
+    epochDays = new long[DATES];
+    for (int i = 0; i < DATES; i++)
+      epochDays[i] = random.nextLong(firstDay, lastDay);
+
+    if (order.equals("sorted"))
+      Arrays.sort(epochDays);
+
+    packedDates = new long[DATES];
+    CalendarConversions.convert(CalendarConversions.EPOCH_DAY_TO_JULIAN, epochDays, packedDates);
+
+    dates = new JulianDate[DATES];
+    for (int i = 0; i < DATES; i++)
+      dates[i] = new JulianDate(JulianDays.yearOfPacked(packedDates[i]), JulianDays.monthOfPacked(packedDates[i]), JulianDays.dayOfPacked(packedDates[i]));
+
+    destination = new long[DATES];
+
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public long[] julianToEpochDays(){
+    CalendarConversions.convert(CalendarConversions.JULIAN_TO_EPOCH_DAY, packedDates, destination);
+    return destination;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public long[] epochDaysToJulian(){
+    CalendarConversions.convert(CalendarConversions.EPOCH_DAY_TO_JULIAN, epochDays, destination);
+    return destination;
+  }
+
+  /* the same conversion as julianToEpochDays, with the date objects used by the application */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public long[] julianDateToGregorianDate(){
+    for (int i = 0; i < DATES; i++)
+      destination[i] = dates[i].julianDateToGregorianDate().toEpochDay();
+    return destination;
+  }
+
+}
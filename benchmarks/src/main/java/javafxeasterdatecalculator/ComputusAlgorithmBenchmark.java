@@ -0,0 +1,60 @@
+package javafxeasterdatecalculator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Benchmarks for the built-in Easter algorithms of ComputusAlgorithms.
+ *
+ * Each algorithm runs in its own fork, so its call site only ever sees one class and is inlined, as it is in the scalar kernel.
+ * The calibration done at startup ("-Djavafxeasterdatecalculator.computus=calibrate") is a quicker version of the same comparison.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ComputusAlgorithmBenchmark {
+
+  static final int YEARS = 4096;
+
+  @Param({"meeus-jones-butcher", "gauss", "conway", "table", "meeus-julian", "gauss-julian", "table-julian"})
+  String algorithmName;
+
+  @Param({YearDistributions.MODERN, YearDistributions.FULL})
+  String distribution;
+
+  private ComputusAlgorithm algorithm;
+  private int[] years;
+
+  @Setup
+  public void setUp(){
+
+    List<ComputusAlgorithm> algorithms = ComputusAlgorithms.getAlgorithms();
+    algorithm = ComputusAlgorithms.find(algorithms, algorithmName.endsWith("julian"), algorithmName);
+    years = YearDistributions.createYears(distribution, YEARS);
+
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void easterOffsetBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(algorithm.easterOffset(year));
+  }
+
+}
@@ -0,0 +1,158 @@
+package javafxeasterdatecalculator;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Benchmarks for the Easter algorithms.
+ *
+ * The "SingleYear" benchmarks measure the latency of one call, taking each time the next year from the distribution,
+ * so that the JIT compiler cannot treat the year as a constant. The "Bulk" benchmarks measure the throughput
+ * (years per second) of computing the Easter dates of all the years of the distribution.
+ *
+ * The methods of EasterCalculations are the ones used by the user interface. The primitive versions from Computus
+ * and EasterCycleCache are measured next to them, so that the cost of the date objects can be compared.
+ * The "Block" benchmarks compare the scalar and vector kernels on a block of consecutive years starting with the first year of the distribution.
+ * They are not inlined into the measurement loop of JMH, so that the kernels are compiled as they are when called by EasterYearRange.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ComputusBenchmark {
+
+  /* number of years in a distribution; a power of two, so that the next year index can be obtained with a mask */
+  static final int YEARS = 4096;
+
+  @Param({YearDistributions.MODERN, YearDistributions.CENTURIES, YearDistributions.FULL})
+  String distribution;
+
+  private int[] years;
+  private int next;
+
+  private final byte[] block = new byte[YEARS];
+  private final ComputusKernel scalarKernel = ComputusKernel.getScalarKernel();
+  private final ComputusKernel vectorKernel = ComputusKernel.getVectorKernel();
+
+  private final EasterCycleCache cache = new EasterCycleCache(EasterCycleCache.FULL_GREGORIAN_TABLE_BYTES);
+
+  @Setup
+  public void setUp(){
+    years = YearDistributions.createYears(distribution, YEARS);
+  }
+
+  private int nextYear(){
+    return years[next++ & (YEARS - 1)];
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public LocalDate westernEasterSingleYear(){
+    return EasterCalculations.getWesternEasterOnGregorianCalendar(nextYear());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public JulianDate julianEasterSingleYear(){
+    return EasterCalculations.getJulianEasterOnJulianCalendar(nextYear());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public long primitiveEasternEasterSingleYear(){
+    return Computus.easternEasterEpochDay(nextYear());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void westernEasterBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(EasterCalculations.getWesternEasterOnGregorianCalendar(year));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void julianEasterBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(EasterCalculations.getJulianEasterOnJulianCalendar(year));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void primitiveWesternEasterBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(Computus.westernEasterOffset(year));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void primitiveJulianEasterBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(Computus.julianEasterOffset(year));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public void cachedWesternEasterBulk(Blackhole blackhole){
+    for (int year : years)
+      blackhole.consume(cache.westernEasterOffset(year));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public byte[] scalarKernelWesternEasterBlock(){
+    scalarKernel.westernEasterOffsets(years[0], YEARS, block, 0);
+    return block;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public byte[] vectorKernelWesternEasterBlock(){
+    vectorKernel.westernEasterOffsets(years[0], YEARS, block, 0);
+    return block;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  public byte[] vectorKernelJulianEasterBlock(){
+    vectorKernel.julianEasterOffsets(years[0], YEARS, block, 0);
+    return block;
+  }
+
+}
@@ -0,0 +1,94 @@
+package javafxeasterdatecalculator;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Benchmarks for the input validation and for the formatting of the dates displayed to the user.
+ *
+ * One input out of eight is invalid (it contains a letter or it is too long), so that the validation does not only see valid years.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FormattingBenchmark {
+
+  static final int INPUTS = 4096;
+
+  private String[] inputs;
+  private LocalDate[] gregorianDates;
+  private JulianDate[] julianDates;
+  private int next;
+
+  @Setup
+  public void setUp(){
+
+    int[] years = YearDistributions.createYears(YearDistributions.MODERN, INPUTS);
+
+    inputs = new String[INPUTS];
+    gregorianDates = new LocalDate[INPUTS];
+    julianDates = YearDistributions.createJulianEasterDates(years);
+
+    for (int i = 0; i < INPUTS; i++) {
+      if (i % 8 == 7)
+        inputs[i] = (i % 16 == 7) ? years[i]+"a" : "123456789";
+      else
+        inputs[i] = Integer.toString(years[i]);
+      gregorianDates[i] = EasterCalculations.getWesternEasterOnGregorianCalendar(years[i]);
+    }
+
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public boolean validateValueSingleInput(){
+    return EasterCalculations.validateValue(inputs[next++ & (INPUTS - 1)]);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String customFormattedDateSingleDate(){
+    return EasterCalculations.getCustomFormattedDate(gregorianDates[next++ & (INPUTS - 1)]);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String julianCustomFormattedDateSingleDate(){
+    return julianDates[next++ & (INPUTS - 1)].getCustomFormattedDate();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(INPUTS)
+  public void validateValueBulk(Blackhole blackhole){
+    for (String input : inputs)
+      blackhole.consume(EasterCalculations.validateValue(input));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(INPUTS)
+  public void customFormattedDateBulk(Blackhole blackhole){
+    for (LocalDate date : gregorianDates)
+      blackhole.consume(EasterCalculations.getCustomFormattedDate(date));
+  }
+
+}
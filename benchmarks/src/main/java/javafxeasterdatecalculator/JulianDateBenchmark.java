@@ -0,0 +1,133 @@
+package javafxeasterdatecalculator;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+ * Benchmarks for JulianDate: the validation done by its constructor and the conversion from Julian to Gregorian calendar.
+ *
+ * The dates given to the constructor alternate between the Julian Easter date of a year and the last day of February of the same year.
+ * With the "centuries" distribution, most of the February dates are the 29 February dates that only exist in Julian calendar,
+ * which take a separate validation path.
+ * The invalid dates are the day after the end of the same months, to compare validate() with a constructor that throws.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JulianDateBenchmark {
+
+  static final int DATES = 4096;
+
+  @Param({YearDistributions.MODERN, YearDistributions.CENTURIES, YearDistributions.FULL})
+  String distribution;
+
+  private int[] years, months, days, invalidDays;
+  private JulianDate[] dates;
+  private int next;
+
+  @Setup
+  public void setUp(){
+
+    years = YearDistributions.createYears(distribution, DATES);
+    months = new int[DATES];
+    days = new int[DATES];
+    invalidDays = new int[DATES];
+
+    dates = YearDistributions.createJulianEasterDates(years);
+
+    for (int i = 0; i < DATES; i++) {
+      if (i % 2 == 0) {
+        months[i] = dates[i].getMonth();
+        days[i] = dates[i].getDay();
+      }
+      else {
+        months[i] = 2;
+        days[i] = (years[i] % 4 == 0) ? 29 : 28;
+        dates[i] = new JulianDate(years[i], months[i], days[i]);
+      }
+      invalidDays[i] = JulianDate.getMonthLength(years[i], months[i]) + 1;
+    }
+
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public JulianDate constructorSingleDate(){
+    int i = next++ & (DATES - 1);
+    return new JulianDate(years[i], months[i], days[i]);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public LocalDate julianDateToGregorianDateSingleDate(){
+    return dates[next++ & (DATES - 1)].julianDateToGregorianDate();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public void constructorBulk(Blackhole blackhole){
+    for (int i = 0; i < DATES; i++)
+      blackhole.consume(new JulianDate(years[i], months[i], days[i]));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public void validateInvalidBulk(Blackhole blackhole){
+    for (int i = 0; i < DATES; i++)
+      blackhole.consume(JulianDate.validate(years[i], months[i], invalidDays[i]));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public void constructorInvalidBulk(Blackhole blackhole){
+    for (int i = 0; i < DATES; i++) {
+      try {
+        blackhole.consume(new JulianDate(years[i], months[i], invalidDays[i]));
+      }
+      catch (RuntimeException e){
+        blackhole.consume(e);
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public void julianDateToGregorianDateBulk(Blackhole blackhole){
+    for (JulianDate date : dates)
+      blackhole.consume(date.julianDateToGregorianDate());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(DATES)
+  public void primitiveToEpochDayBulk(Blackhole blackhole){
+    for (int i = 0; i < DATES; i++)
+      blackhole.consume(JulianDays.toEpochDay(years[i], months[i], days[i]));
+  }
+
+}
@@ -0,0 +1,55 @@
+package javafxeasterdatecalculator;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * Benchmarks for MovableFeasts: the epoch day columns of a block of years, for Easter only (both calendars) and for all the feasts,
+ * to show how little each feast adds once Easter is computed. The throughput is given in years per second.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MovableFeastsBenchmark {
+
+  static final int YEARS = 4096;
+
+  /* first year of the block */
+  static final int FIRST_YEAR = 1583;
+
+  @Param({"easter", "all"})
+  String feastSet;
+
+  private int[] feasts;
+  private int[][] columns;
+
+  @Setup
+  public void setUp(){
+
+    feasts = feastSet.equals("all") ? MovableFeasts.allFeasts() : new int[] {MovableFeasts.EASTER, MovableFeasts.ORTHODOX_PASCHA};
+    columns = new int[feasts.length][YEARS];
+
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(YEARS)
+  public int[][] epochDayColumnsBlock(){
+    MovableFeasts.computeEpochDays(feasts, columns, FIRST_YEAR, FIRST_YEAR + YEARS, 0);
+    return columns;
+  }
+
+}
@@ -0,0 +1,73 @@
+package javafxeasterdatecalculator;
+
+import java.util.SplittableRandom;
+
+/*
+ * This class creates the arrays of years used by the bulk benchmarks.
+ *
+ * The years are generated with a fixed seed, so that every benchmark run works on exactly the same input.
+ * The distributions are:
+ *   - "modern": years between 1583 and 2500, which is what most users of the application ask for;
+ *   - "centuries": years around the centuries that are leap years only in Julian calendar (1700, 1800, 1900, 2100, ...),
+ *     where the conversion from Julian to Gregorian calendar needs its corrections;
+ *   - "full": years between 26 and 99999999, the whole interval accepted by the application.
+ */
+final class YearDistributions {
+
+  static final String MODERN = "modern";
+  static final String CENTURIES = "centuries";
+  static final String FULL = "full";
+
+  private static final long SEED = 0x5EED_EA57E2L;
+
+  private YearDistributions(){
+  }
+
+  static int[] createYears(String distribution, int count){
+
+    SplittableRandom random = new SplittableRandom(SEED);
+    int[] years = new int[count];
+
+    for (int i = 0; i < count; i++) {
+
+      switch (distribution) {
+
+        case MODERN:
+          years[i] = random.nextInt(1583, 2501);
+          break;
+
+        case CENTURIES:
+          /* a century between 1700 and 99999900 that is not divisible by 400, moved by at most one year in either direction */
+          int century;
+          do {
+            century = random.nextInt(17, 1000000) * 100;
+          } while (century % 400 == 0);
+          years[i] = century + random.nextInt(-1, 2);
+          break;
+
+        case FULL:
+          years[i] = random.nextInt(26, 100000000);
+          break;
+
+        default:
+          throw new IllegalArgumentException("Unknown year distribution: "+distribution);
+
+      }
+
+    }
+
+    return years;
+
+  }
+
+  /* Returns the Julian Easter dates (on Julian calendar) of the given years, for the benchmarks of the date conversion */
+  static JulianDate[] createJulianEasterDates(int[] years){
+
+    JulianDate[] dates = new JulianDate[years.length];
+    for (int i = 0; i < years.length; i++)
+      dates[i] = EasterCalculations.getJulianEasterOnJulianCalendar(years[i]);
+    return dates;
+
+  }
+
+}
@@ -0,0 +1,151 @@
+package javafxeasterdatecalculator;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/*
+ * Data-parallel implementation of ComputusKernel, built on the Vector API (jdk.incubator.vector).
+ *
+ * The Easter algorithms are chains of integer divisions and remainders without any branch, so each lane of a vector
+ * simply computes the algorithm for its own year: a vector holds consecutive years, and all of them go through the same operations.
+ *
+ * The terms which only depend on the century (Western Easter) or on the first year of the vector are computed once, with scalar code.
+ * What is left for the lanes only involves small values (below 2^10), so the lanes are 32 bits wide and a vector holds as many years as possible.
+ * Integer division is not a hardware vector instruction, so every division by a constant is replaced by a multiplication
+ * followed by a shift (x / d == (x * m) >>> s, with m = ceil(2^s / d) and s = n + ceil(log2(d)), which is exact for every x in [0, 2^n)).
+ * Keeping the loop bodies short also matters: the JIT compiler only turns the vectors into registers when the whole body can be inlined.
+ *
+ * This class must only be loaded through ComputusKernel.getVectorKernel(), since it cannot be linked without the incubator module.
+ * For the same reason, it is kept apart from the application sources, so that the application can be compiled without the module;
+ * it is compiled separately, with "--add-modules jdk.incubator.vector", only when the vector kernel is wanted.
+ */
+final class VectorComputusKernel extends ComputusKernel {
+
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+  private static final int LANES = SPECIES.length();
+
+  /* number of bits of the values given to each division */
+  private static final int SMALL_BITS = 10;
+
+  private static final Divisor BY_7 = new Divisor(7, SMALL_BITS);
+  private static final Divisor BY_19 = new Divisor(19, SMALL_BITS);
+  private static final Divisor BY_30 = new Divisor(30, SMALL_BITS);
+  private static final Divisor BY_451 = new Divisor(451, SMALL_BITS);
+
+  /* the lane indexes (0, 1, 2, ...), added to a scalar to obtain the values of consecutive years in all the lanes */
+  private static final IntVector LANE_INDEXES = IntVector.zero(SPECIES).addIndex(1);
+
+  @Override
+  void westernEasterOffsets(int firstYear, int count, byte[] destination, int position){
+
+    int[] lanes = new int[LANES];
+    int year = firstYear, endYear = firstYear + count;
+
+    /* the years are processed one century at a time, since b, d, e, f and g of the algorithm are the same for the whole century */
+    while (year < endYear) {
+
+      int century = year / 100;
+      int centuryEndYear = Math.min(endYear, 100*century + 100);
+
+      int d = century / 4;
+      int e = century % 4;
+      int f = (century + 8) / 25;
+      int g = (century - f + 1) / 3;
+
+      /* h = (19a + hBase) mod 30 and l = (2i - h - k + lBase) mod 7, with non-negative arguments below 2^10 */
+      int aBase = (100*century) % 19;
+      int hBase = (century - d - g + 15) % 30;
+      int lBase = 2*e + 32;
+
+      for (; year <= centuryEndYear - LANES; year += LANES) {
+
+        IntVector c = LANE_INDEXES.add(year - 100*century);
+
+        IntVector a = BY_19.remainder(c.add(aBase));
+        IntVector h = BY_30.remainder(a.mul(19).add(hBase));
+        IntVector i = c.lanewise(VectorOperators.LSHR, 2);
+        IntVector k = c.and(3);
+        IntVector l = BY_7.remainder(i.mul(2).sub(h).sub(k).add(lBase));
+        IntVector m = BY_451.quotient(a.add(h.mul(11)).add(l.mul(22)));
+
+        h.add(l).sub(m.mul(7)).intoArray(lanes, 0);
+
+        for (int lane = 0; lane < LANES; lane++)
+          destination[position + (year - firstYear) + lane] = (byte) lanes[lane];
+
+      }
+
+      /* the years of the century that do not fill a whole vector are computed one by one */
+      for (; year < centuryEndYear; year++)
+        destination[position + (year - firstYear)] = (byte) Computus.westernEasterOffset(year);
+
+    }
+
+  }
+
+  @Override
+  void julianEasterOffsets(int firstYear, int count, byte[] destination, int position){
+
+    int[] lanes = new int[LANES];
+    int i = 0;
+
+    for (; i <= count - LANES; i += LANES) {
+
+      int year = firstYear + i;
+
+      /*
+       * The remainders of consecutive years are the remainders of the first year plus the lane indexes, reduced again.
+       * b is only used modulo 7, so it does not need to be reduced before computing e.
+       */
+      IntVector a = LANE_INDEXES.add(year % 4).and(3);
+      IntVector b = LANE_INDEXES.add(year % 7);
+      IntVector c = BY_19.remainder(LANE_INDEXES.add(year % 19));
+
+      IntVector d = BY_30.remainder(c.mul(19).add(15));
+      IntVector e = BY_7.remainder(a.mul(2).add(b.mul(4)).sub(d).add(34));
+
+      d.add(e).intoArray(lanes, 0);
+
+      for (int lane = 0; lane < LANES; lane++)
+        destination[position + i + lane] = (byte) lanes[lane];
+
+    }
+
+    /* the years that do not fill a whole vector are computed one by one */
+    for (; i < count; i++)
+      destination[position + i] = (byte) Computus.julianEasterOffset(firstYear + i);
+
+  }
+
+  @Override
+  String getName(){
+    return "vector ("+LANES+" lanes)";
+  }
+
+  /* Division of non-negative values of at most "bits" bits by a constant, done with a multiplication and a shift */
+  private static final class Divisor {
+
+    private final int divisor, multiplier, shift;
+
+    Divisor(int divisor, int bits){
+
+      int divisorBits = 32 - Integer.numberOfLeadingZeros(divisor - 1);
+
+      this.divisor = divisor;
+      this.shift = bits + divisorBits;
+      this.multiplier = (int)(((1L << shift) + divisor - 1) / divisor);
+
+    }
+
+    IntVector quotient(IntVector x){
+      return x.mul(multiplier).lanewise(VectorOperators.LSHR, shift);
+    }
+
+    IntVector remainder(IntVector x){
+      return x.sub(quotient(x).mul(divisor));
+    }
+
+  }
+
+}
@@ -0,0 +1,298 @@
+package javafxeasterdatecalculator;
+
+import java.nio.BufferOverflowException;
+import java.nio.LongBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * This class converts whole columns of dates between Julian calendar and Gregorian epoch days (see JulianDays), in both directions,
+ * for programs that convert large amounts of historical dates at once.
+ *
+ * A column is either an array or a LongBuffer (heap or direct). The conversions of long columns are:
+ *   - JULIAN_TO_EPOCH_DAY: Julian dates packed with JulianDays.pack() to Gregorian epoch days;
+ *   - EPOCH_DAY_TO_JULIAN: Gregorian epoch days to packed Julian dates;
+ *   - JULIAN_DAY_NUMBER_TO_EPOCH_DAY and EPOCH_DAY_TO_JULIAN_DAY_NUMBER.
+ * Julian dates can also be given as separate arrays of years, months and days. The Gregorian date of an epoch day can be obtained
+ * with GregorianDays.toPackedDate() (or LocalDate.ofEpochDay()), and Julian Day Numbers with JulianDays.epochDayToJulianDayNumber().
+ *
+ * The values are checked like JulianDate does: a Julian date must be valid (including the February 29 dates of the years that are leap years
+ * in Julian calendar only, such as 1700), with a year in [-999999999, 999999999], and an epoch day or a Julian Day Number must be the one of such a date.
+ * An invalid value stops the conversion with an IllegalArgumentException giving its index; the destination may then be partially written.
+ *
+ * Large columns are split into blocks converted in parallel, using the common fork/join pool. Inside a block, the first day of the year of the
+ * previous date is kept: the Julian day count of the year and its secular difference from Gregorian calendar (see JulianDate.getSecularDifference()),
+ * both held in a single epoch day. When the input is sorted, most dates fall in the same year as the previous date, so the epoch days
+ * are converted to Julian dates without searching their year again. The source and the destination of a long column may be the same array.
+ */
+final class CalendarConversions {
+
+  static final int JULIAN_TO_EPOCH_DAY = 0;
+  static final int EPOCH_DAY_TO_JULIAN = 1;
+  static final int JULIAN_DAY_NUMBER_TO_EPOCH_DAY = 2;
+  static final int EPOCH_DAY_TO_JULIAN_DAY_NUMBER = 3;
+
+  /* the epoch days of the first and last Julian dates accepted by JulianDate */
+  static final long MIN_EPOCH_DAY = JulianDays.toEpochDay(JulianDate.MIN_YEAR, 1, 1);
+  static final long MAX_EPOCH_DAY = JulianDays.toEpochDay(JulianDate.MAX_YEAR, 12, 31);
+
+  /* for each month (1 to 12): its length (except for leap years), whether it belongs to the year counted from the previous March 1,
+     and its first day counted from that March 1 (see JulianDays.toEpochDay()) */
+  private static final int[] MONTH_LENGTHS = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+  private static final int[] MARCH_YEAR_SHIFTS = {0, 1, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+  private static final int[] DAYS_FROM_MARCH_FIRST = {0, 306, 337, 0, 31, 61, 92, 122, 153, 184, 214, 245, 275};
+
+  /* number of dates below which a column is no longer split between fork/join tasks */
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  /* number of values copied at once between a buffer and an array */
+  private static final int BUFFER_CHUNK = 1 << 10;
+
+  private CalendarConversions(){
+  }
+
+  /* Converts the Julian dates given by years[i], months[i] and days[i] into epoch days, written into epochDays[i] */
+  static void julianToEpochDays(int[] years, int[] months, int[] days, long[] epochDays){
+
+    int count = years.length;
+    checkLengths(count, months.length, days.length, epochDays.length);
+
+    convertInBlocks(count, (from, to) -> {
+      for (int i = from; i < to; i++)
+        epochDays[i] = checkedToEpochDay(years[i], months[i], days[i], i);
+    });
+
+  }
+
+  /* Converts the epoch days into Julian dates, whose years, months and days are written into years[i], months[i] and days[i] */
+  static void epochDaysToJulian(long[] epochDays, int[] years, int[] months, int[] days){
+
+    int count = epochDays.length;
+    checkLengths(count, years.length, months.length, days.length);
+
+    convertInBlocks(count, (from, to) -> {
+
+      YearCache cache = new YearCache();
+
+      for (int i = from; i < to; i++) {
+        long date = cache.fromEpochDay(checkEpochDay(epochDays[i], i));
+        years[i] = JulianDays.yearOfPacked(date);
+        months[i] = JulianDays.monthOfPacked(date);
+        days[i] = JulianDays.dayOfPacked(date);
+      }
+
+    });
+
+  }
+
+  /* Converts the whole source array into the destination array, which must have the same length (it may be the source itself) */
+  static void convert(int conversion, long[] source, long[] destination){
+    checkLengths(source.length, destination.length);
+    convert(conversion, source, 0, destination, 0, source.length);
+  }
+
+  /* Converts count values of the source array, starting at sourcePosition, into the destination array, starting at destinationPosition */
+  static void convert(int conversion, long[] source, int sourcePosition, long[] destination, int destinationPosition, int count){
+
+    checkConversion(conversion);
+
+    if ((count < 0) || (sourcePosition < 0) || (sourcePosition > source.length - count)
+        || (destinationPosition < 0) || (destinationPosition > destination.length - count))
+      throw new IndexOutOfBoundsException("Cannot convert "+count+" values from position "+sourcePosition+" to position "+destinationPosition);
+
+    convertInBlocks(count, (from, to) -> convertBlock(conversion, source, sourcePosition + from, destination, destinationPosition + from, to - from, from));
+
+  }
+
+  /*
+   * Converts the remaining values of the source buffer into the destination buffer, like LongBuffer.put(LongBuffer) copies them:
+   * the positions of both buffers are moved after the converted values. The buffers may be direct buffers (for example mapped files).
+   */
+  static void convert(int conversion, LongBuffer source, LongBuffer destination){
+
+    int count = source.remaining();
+    if (destination.remaining() < count)
+      throw new BufferOverflowException();
+
+    int sourcePosition = source.position();
+    int destinationPosition = destination.position();
+
+    if (source.hasArray() && destination.hasArray())
+      convert(conversion, source.array(), source.arrayOffset() + sourcePosition, destination.array(), destination.arrayOffset() + destinationPosition, count);
+    else {
+
+      checkConversion(conversion);
+
+      /* direct buffers are converted by chunks copied into an array, with the absolute bulk methods, which leave the positions unchanged */
+      convertInBlocks(count, (from, to) -> {
+
+        long[] chunk = new long[Math.min(BUFFER_CHUNK, to - from)];
+        YearCache cache = new YearCache();
+
+        for (int index = from; index < to; index += chunk.length) {
+          int length = Math.min(chunk.length, to - index);
+          source.get(sourcePosition + index, chunk, 0, length);
+          convertChunk(conversion, chunk, 0, chunk, 0, length, index, cache);
+          destination.put(destinationPosition + index, chunk, 0, length);
+        }
+
+      });
+
+    }
+
+    source.position(sourcePosition + count);
+    destination.position(destinationPosition + count);
+
+  }
+
+  /* Converts a block of values; firstIndex is the index of the first value in the column, used for reporting invalid values */
+  private static void convertBlock(int conversion, long[] source, int sourcePosition, long[] destination, int destinationPosition, int count, int firstIndex){
+    convertChunk(conversion, source, sourcePosition, destination, destinationPosition, count, firstIndex, new YearCache());
+  }
+
+  private static void convertChunk(int conversion, long[] source, int sourcePosition, long[] destination, int destinationPosition,
+                                   int count, int firstIndex, YearCache cache){
+
+    switch (conversion) {
+
+      case JULIAN_TO_EPOCH_DAY:
+        for (int i = 0; i < count; i++) {
+          long date = source[sourcePosition + i];
+          destination[destinationPosition + i] = checkedToEpochDay(JulianDays.yearOfPacked(date), JulianDays.monthOfPacked(date),
+                                                                   JulianDays.dayOfPacked(date), firstIndex + i);
+        }
+        break;
+
+      case EPOCH_DAY_TO_JULIAN:
+        for (int i = 0; i < count; i++)
+          destination[destinationPosition + i] = cache.fromEpochDay(checkEpochDay(source[sourcePosition + i], firstIndex + i));
+        break;
+
+      case JULIAN_DAY_NUMBER_TO_EPOCH_DAY:
+        for (int i = 0; i < count; i++)
+          destination[destinationPosition + i] = checkEpochDay(JulianDays.julianDayNumberToEpochDay(source[sourcePosition + i]), firstIndex + i);
+        break;
+
+      default:
+        for (int i = 0; i < count; i++)
+          destination[destinationPosition + i] = JulianDays.epochDayToJulianDayNumber(checkEpochDay(source[sourcePosition + i], firstIndex + i));
+        break;
+
+    }
+
+  }
+
+  /*
+   * Returns the epoch day of a Julian date, after checking it with the same rules as JulianDate.validate().
+   * The month lengths and the days from March 1 come from tables, so that dates in random order do not depend on branches on their month.
+   */
+  private static long checkedToEpochDay(int year, int month, int day, int index){
+
+    /* the unsigned comparisons check both bounds of the month and of the day at once */
+    if ((year < JulianDate.MIN_YEAR) || (year > JulianDate.MAX_YEAR) || (Integer.compareUnsigned(month - 1, 12) >= 0)
+        || (Integer.compareUnsigned(day - 1, MONTH_LENGTHS[month] + (((month == 2) & ((year & 3) == 0)) ? 1 : 0)) >= 0))
+      throw new IllegalArgumentException("Invalid Julian date (y/m/d) at index "+index+": "+year+"/"+month+"/"+day);
+
+    return Computus.julianMarchFirstEpochDay(year - MARCH_YEAR_SHIFTS[month]) + DAYS_FROM_MARCH_FIRST[month] + day - 1;
+
+  }
+
+  private static long checkEpochDay(long epochDay, int index){
+
+    if ((epochDay < MIN_EPOCH_DAY) || (epochDay > MAX_EPOCH_DAY))
+      throw new IllegalArgumentException("Epoch day outside the Julian years accepted by JulianDate at index "+index+": "+epochDay);
+
+    return epochDay;
+
+  }
+
+  private static void checkConversion(int conversion){
+    if ((conversion < JULIAN_TO_EPOCH_DAY) || (conversion > EPOCH_DAY_TO_JULIAN_DAY_NUMBER))
+      throw new IllegalArgumentException("Invalid conversion: "+conversion);
+  }
+
+  private static void checkLengths(int length, int... otherLengths){
+    for (int otherLength : otherLengths)
+      if (otherLength != length)
+        throw new IllegalArgumentException("The columns must have the same length: "+length+" and "+otherLength);
+  }
+
+  /* Converts small columns in the calling thread, and larger ones in parallel */
+  private static void convertInBlocks(int count, Block block){
+
+    if (count <= BLOCK_SIZE)
+      block.convert(0, count);
+    else
+      ForkJoinPool.commonPool().invoke(new BlockTask(block, 0, count));
+
+  }
+
+  /* The conversion of the values whose indexes are in [from, to) */
+  private interface Block {
+    void convert(int from, int to);
+  }
+
+  /* Fork/join task which splits the column in halves, until the blocks are small enough to be converted directly */
+  private static final class BlockTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Block block;
+    private final int from, to;
+
+    BlockTask(Block block, int from, int to){
+      this.block = block;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute(){
+
+      if (to - from <= BLOCK_SIZE)
+        block.convert(from, to);
+      else {
+        int middle = from + (to - from) / 2;
+        invokeAll(new BlockTask(block, from, middle), new BlockTask(block, middle, to));
+      }
+
+    }
+
+  }
+
+  /*
+   * The first epoch day of the Julian year (counted from March 1) of the last converted date, and the length of that year.
+   * An epoch day inside that year is converted with its day of the year only; any other one is converted with JulianDays.
+   */
+  private static final class YearCache {
+
+    private int marchYear;
+    private long yearStart;
+    private int yearLength;
+
+    long fromEpochDay(long epochDay){
+
+      /* a single unsigned comparison, since a test on each side of the year would be mispredicted half of the time for unsorted dates */
+      if (Long.compareUnsigned(epochDay - yearStart, yearLength) >= 0) {
+
+        /* the same arithmetic as JulianDays.fromEpochDay(), which also gives the first day of the year */
+        long shiftedDay = epochDay - JulianDays.JULIAN_MARCH_FIRST_0000;
+        long cycle = Math.floorDiv(shiftedDay, JulianDays.DAYS_PER_CYCLE);
+        int dayOfCycle = (int)(shiftedDay - cycle*JulianDays.DAYS_PER_CYCLE);
+        int yearOfCycle = JulianDays.yearOfCycle(dayOfCycle);
+
+        marchYear = (int)(cycle*4) + yearOfCycle;
+        yearStart = epochDay - (dayOfCycle - 365*yearOfCycle);
+
+        /* the fourth year of a cycle ends with February 29 */
+        yearLength = (yearOfCycle == 3) ? 366 : 365;
+
+      }
+
+      return JulianDays.packMarchYearDay(marchYear, (int)(epochDay - yearStart));
+
+    }
+
+  }
+
+}
@@ -0,0 +1,111 @@
+package javafxeasterdatecalculator;
+
+/*
+ * This class holds the Easter date algorithms in a primitive form, which does not need any JavaFX or date objects.
+ *
+ * The algorithms are exactly the ones used by "getWesternEasterOnGregorianCalendar" and "getJulianEasterOnJulianCalendar"
+ * methods of EasterCalculations class, but instead of creating a date object for each year, they return the Easter date
+ * as a number of days after March 22, which is the earliest possible Easter date on both Gregorian and Julian calendars.
+ * The latest possible Easter date is April 25, which means that the returned value is always between 0 and 34.
+ *
+ * Both algorithms end with:
+ *   month = (x + 114) / 31;
+ *   day = ((x + 114) % 31) + 1;
+ * For x = 0 this gives March 22, so x itself is the number of days after March 22. This is the value returned by the offset methods.
+ *
+ * The class also converts the Easter dates to epoch days (number of days since January 1, 1970, as used by LocalDate.toEpochDay()),
+ * using only integer arithmetic. Epoch days are held as long values, since the years accepted by LocalDate go far beyond the int range of epoch days.
+ */
+final class Computus {
+
+  /* the earliest possible Easter date is March 22 (on both calendars), and the offsets are counted from it */
+  static final int EARLIEST_EASTER_MONTH = 3;
+  static final int EARLIEST_EASTER_DAY = 22;
+
+  /* the latest possible Easter date is April 25, which is 34 days after March 22 */
+  static final int MAX_OFFSET = 34;
+
+  /* number of days from 1 March of year 0 (Gregorian) to 1 January 1970 */
+  private static final long DAYS_0000_TO_1970 = 719468;
+
+  private Computus(){
+  }
+
+  /* Returns Western (Catholic) Easter on Gregorian calendar, as days after March 22, using the Anonymous Gregorian ("Meeus/Jones/Butcher") algorithm. */
+  static int westernEasterOffset(int year){
+
+    int a,b,c,d,e,f,g,h,i,k,l,m;
+
+    a = year % 19;
+    b = year / 100;
+    c = year % 100;
+    d = b / 4;
+    e = b % 4;
+    f = (b + 8) / 25;
+    g = (b - f + 1) / 3;
+    h = (19*a + b - d - g + 15) % 30;
+    i = c / 4;
+    k = c % 4;
+    l = (32 + 2*e + 2*i - h - k) % 7;
+    m = (a + 11*h + 22*l) / 451;
+
+    return h + l - 7*m;
+
+  }
+
+  /* Returns Eastern (Orthodox) Easter on Julian calendar, as days after March 22, using Meeus's Julian algorithm. */
+  static int julianEasterOffset(int year){
+
+    int a,b,c,d,e;
+
+    a = year % 4;
+    b = year % 7;
+    c = year % 19;
+
+    d = (19*c + 15) % 30;
+    e = (2*a + 4*b - d + 34) % 7;
+
+    return d + e;
+
+  }
+
+  /* Returns the month (3 or 4) of an Easter date given as days after March 22 */
+  static int monthOfOffset(int offset){
+    return (offset + 114) / 31;
+  }
+
+  /* Returns the day of month of an Easter date given as days after March 22 */
+  static int dayOfOffset(int offset){
+    return ((offset + 114) % 31) + 1;
+  }
+
+  /* Returns Western Easter as a Gregorian epoch day; the same value as getWesternEasterOnGregorianCalendar(year).toEpochDay() */
+  static long westernEasterEpochDay(int year){
+    return gregorianMarchFirstEpochDay(year) + (EARLIEST_EASTER_DAY - 1) + westernEasterOffset(year);
+  }
+
+  /*
+   * Returns Eastern Easter as a Gregorian epoch day; the same value as getJulianEasterOnJulianCalendar(year).julianDateToGregorianDate().toEpochDay()
+   * The result may fall outside the years accepted by LocalDate, for years close to the LocalDate limits.
+   */
+  static long easternEasterEpochDay(int year){
+    return julianMarchFirstEpochDay(year) + (EARLIEST_EASTER_DAY - 1) + julianEasterOffset(year);
+  }
+
+  /*
+   * Returns the epoch day of 1 March of the given year on Gregorian calendar.
+   * Counting the years from March makes the leap day the last day of the previous year, so no month table is needed.
+   */
+  static long gregorianMarchFirstEpochDay(int year){
+    return 365L*year + Math.floorDiv(year, 4) - Math.floorDiv(year, 100) + Math.floorDiv(year, 400) - DAYS_0000_TO_1970;
+  }
+
+  /*
+   * Returns the Gregorian epoch day of 1 March of the given year on Julian calendar.
+   * This is the Gregorian value increased by the secular difference (see JulianDate.getSecularDifference()), which is why the century terms cancel out.
+   */
+  static long julianMarchFirstEpochDay(int year){
+    return 365L*year + Math.floorDiv(year, 4) - DAYS_0000_TO_1970 - 2;
+  }
+
+}
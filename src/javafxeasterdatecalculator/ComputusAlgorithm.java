@@ -0,0 +1,27 @@
+package javafxeasterdatecalculator;
+
+/*
+ * Service interface for an Easter date algorithm (a computus).
+ *
+ * Several algorithms give exactly the same Easter dates with different arithmetic, and which one is the fastest depends on the JVM
+ * and on the processor. The built-in algorithms are listed in ComputusAlgorithms; other implementations can be added without
+ * changing the application, as service providers found by java.util.ServiceLoader (a public class with a public constructor
+ * without arguments, listed in a "META-INF/services/javafxeasterdatecalculator.ComputusAlgorithm" file on the class path).
+ *
+ * An implementation has to return the same results as the algorithms of Computus class for all the years in [0, 999999999],
+ * otherwise it is rejected by the calibration (see ComputusAlgorithms). Implementations must be thread-safe.
+ *
+ * ServiceLoader only accepts public service interfaces, so this interface is public, unlike the rest of the package.
+ */
+public interface ComputusAlgorithm {
+
+  /* Returns a short name for the algorithm, unique among the algorithms of the same calendar (used by the "javafxeasterdatecalculator.computus" property) */
+  String getName();
+
+  /* Returns true if the algorithm computes Eastern (Orthodox) Easter on Julian calendar, false for Western (Catholic) Easter on Gregorian calendar */
+  boolean isJulian();
+
+  /* Returns Easter of the given year as days after March 22 (between 0 and 34, see Computus) */
+  int easterOffset(int year);
+
+}
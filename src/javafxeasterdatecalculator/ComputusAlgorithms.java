@@ -0,0 +1,503 @@
+package javafxeasterdatecalculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.SplittableRandom;
+
+/*
+ * This class holds the Easter date algorithms (see ComputusAlgorithm) and chooses the ones used by the scalar computus kernel.
+ *
+ * Built-in algorithms:
+ *   Western Easter (Gregorian calendar):
+ *     - "meeus-jones-butcher": the Anonymous Gregorian algorithm, as used by EasterCalculations (the default);
+ *     - "gauss": Gauss's Easter algorithm, with its two exceptions for the paschal full moon;
+ *     - "conway": the paschal full moon from the Gregorian epact, and its day of the week from Conway's Doomsday rule;
+ *     - "table": the paschal full moon read from a table indexed by the golden number and the century correction.
+ *   Eastern Easter (Julian calendar):
+ *     - "meeus-julian": Meeus's Julian algorithm, as used by EasterCalculations (the default);
+ *     - "gauss-julian": Gauss's algorithm with the constants of the Julian calendar;
+ *     - "table-julian": the paschal full moon read from a table indexed by the golden number.
+ * The algorithms of the service providers found by ServiceLoader are added after them.
+ *
+ * The algorithms are chosen with the "javafxeasterdatecalculator.computus" system property:
+ *   - not set: the default algorithms, without any calibration;
+ *   - "calibrate": all the algorithms are first checked against the default ones on a sample of years, and the fastest correct one
+ *     of each calendar is used (the calibration takes a few tens of milliseconds, the first time an Easter date is computed for a range);
+ *   - a list of names separated by commas: the first named algorithm of each calendar is used (the default one if none is named),
+ *     once it has been checked against the default one on the sample of years (the default one is used if it gives a wrong result).
+ * The choice is made once, and held in static final fields, so that the JIT compiler can inline the chosen algorithms.
+ */
+final class ComputusAlgorithms {
+
+  static final String PROPERTY = "javafxeasterdatecalculator.computus";
+  static final String CALIBRATE = "calibrate";
+
+  /* the calibration sample: consecutive years from the Gregorian reform, and as many years spread over the whole interval */
+  static final int SAMPLE_SIZE = 1 << 16;
+  private static final int SAMPLE_SEED = 1583;
+  private static final int CALIBRATION_ROUNDS = 12;
+
+  /* the results of the measured loops are accumulated here, so that the JIT compiler cannot remove them */
+  private static volatile long sink;
+
+  static final ComputusAlgorithm MEEUS_JONES_BUTCHER = new MeeusJonesButcher();
+  static final ComputusAlgorithm GAUSS = new Gauss();
+  static final ComputusAlgorithm CONWAY = new Conway();
+  static final ComputusAlgorithm TABLE = new Table();
+  static final ComputusAlgorithm MEEUS_JULIAN = new MeeusJulian();
+  static final ComputusAlgorithm GAUSS_JULIAN = new GaussJulian();
+  static final ComputusAlgorithm TABLE_JULIAN = new TableJulian();
+
+  private ComputusAlgorithms(){
+  }
+
+  /* Returns the Western Easter algorithm chosen for the running JVM */
+  static ComputusAlgorithm getWestern(){
+    return Holder.WESTERN;
+  }
+
+  /* Returns the Eastern Easter (Julian calendar) algorithm chosen for the running JVM */
+  static ComputusAlgorithm getJulian(){
+    return Holder.JULIAN;
+  }
+
+  /* Returns the built-in algorithms, followed by the ones of the service providers (those with the same calendar and name as an earlier one are ignored) */
+  static List<ComputusAlgorithm> getAlgorithms(){
+
+    List<ComputusAlgorithm> algorithms = new ArrayList<>(List.of(MEEUS_JONES_BUTCHER, GAUSS, CONWAY, TABLE, MEEUS_JULIAN, GAUSS_JULIAN, TABLE_JULIAN));
+
+    try {
+      for (ComputusAlgorithm algorithm : ServiceLoader.load(ComputusAlgorithm.class, ComputusAlgorithm.class.getClassLoader()))
+        if (find(algorithms, algorithm.isJulian(), algorithm.getName()) == null)
+          algorithms.add(algorithm);
+    }
+    catch (ServiceConfigurationError e){
+      /* a broken provider does not prevent the application from working with the other algorithms */
+      System.err.println("Cannot load the Easter algorithms of the service providers: "+e.getMessage());
+    }
+
+    return Collections.unmodifiableList(algorithms);
+
+  }
+
+  /* Returns the algorithm with the given calendar and name, or null if there is none */
+  static ComputusAlgorithm find(List<ComputusAlgorithm> algorithms, boolean julian, String name){
+
+    for (ComputusAlgorithm algorithm : algorithms)
+      if ((algorithm.isJulian() == julian) && algorithm.getName().equals(name))
+        return algorithm;
+
+    return null;
+
+  }
+
+  /* Returns the calibration sample: SAMPLE_SIZE/2 consecutive years starting with 1583, and SAMPLE_SIZE/2 years spread over [0, 999999999] */
+  static int[] createSample(){
+
+    int[] years = new int[SAMPLE_SIZE];
+    SplittableRandom random = new SplittableRandom(SAMPLE_SEED);
+
+    for (int i = 0; i < SAMPLE_SIZE / 2; i++)
+      years[i] = 1583 + i;
+    for (int i = SAMPLE_SIZE / 2; i < SAMPLE_SIZE; i++)
+      years[i] = random.nextInt(JulianDate.MAX_YEAR + 1);
+
+    return years;
+
+  }
+
+  /*
+   * Checks the given algorithms against the default ones (the methods of Computus) on the given years, and measures the others.
+   * Returns the average time per year of each algorithm, in nanoseconds, or NaN for the algorithms that gave a wrong result (or threw an exception).
+   *
+   * The algorithms are measured in turns, CALIBRATION_ROUNDS times, and the best time of each one is kept, so that the first rounds
+   * (interpreted code, JIT compilation) and the occasional interruptions do not count. All the algorithms are called from the same
+   * loop, so they are compared with the cost of a virtual call, which the chosen algorithm will not have once inlined.
+   */
+  static double[] calibrate(List<ComputusAlgorithm> algorithms, int[] years){
+
+    int count = algorithms.size();
+    double[] nanosPerYear = new double[count];
+    boolean[] correct = new boolean[count];
+
+    for (int index = 0; index < count; index++)
+      correct[index] = check(algorithms.get(index), years);
+
+    long[] bestTimes = new long[count];
+    Arrays.fill(bestTimes, Long.MAX_VALUE);
+
+    for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+      for (int index = 0; index < count; index++) {
+
+        if (!correct[index])
+          continue;
+
+        long startTime = System.nanoTime();
+        sink += run(algorithms.get(index), years);
+        bestTimes[index] = Math.min(bestTimes[index], System.nanoTime() - startTime);
+
+      }
+    }
+
+    for (int index = 0; index < count; index++)
+      nanosPerYear[index] = correct[index] ? (double) bestTimes[index] / years.length : Double.NaN;
+
+    return nanosPerYear;
+
+  }
+
+  /* Returns the fastest correct algorithm of the given calendar, according to the result of calibrate() */
+  static ComputusAlgorithm fastest(List<ComputusAlgorithm> algorithms, double[] nanosPerYear, boolean julian){
+
+    ComputusAlgorithm fastest = null;
+    double fastestTime = Double.MAX_VALUE;
+
+    for (int index = 0; index < algorithms.size(); index++) {
+      ComputusAlgorithm algorithm = algorithms.get(index);
+      if ((algorithm.isJulian() == julian) && (nanosPerYear[index] < fastestTime)) {
+        fastest = algorithm;
+        fastestTime = nanosPerYear[index];
+      }
+    }
+
+    return fastest;
+
+  }
+
+  /* Returns true if the algorithm gives the same results as the default algorithm of its calendar for all the given years */
+  private static boolean check(ComputusAlgorithm algorithm, int[] years){
+
+    try {
+      for (int year : years) {
+        int expected = algorithm.isJulian() ? Computus.julianEasterOffset(year) : Computus.westernEasterOffset(year);
+        if (algorithm.easterOffset(year) != expected) {
+          System.err.println("Easter algorithm \""+algorithm.getName()+"\" rejected: wrong result for year "+year);
+          return false;
+        }
+      }
+    }
+    catch (RuntimeException e){
+      System.err.println("Easter algorithm \""+algorithm.getName()+"\" rejected: "+e);
+      return false;
+    }
+
+    return true;
+
+  }
+
+  private static long run(ComputusAlgorithm algorithm, int[] years){
+
+    long sum = 0;
+    for (int year : years)
+      sum += algorithm.easterOffset(year);
+
+    return sum;
+
+  }
+
+  /* The algorithms are chosen by the class loader the first time they are needed (lazy holder) */
+  private static final class Holder {
+
+    static final ComputusAlgorithm WESTERN, JULIAN;
+
+    static {
+
+      String property = System.getProperty(PROPERTY, "");
+      List<ComputusAlgorithm> algorithms = property.isEmpty() ? List.of(MEEUS_JONES_BUTCHER, MEEUS_JULIAN) : getAlgorithms();
+
+      ComputusAlgorithm western = MEEUS_JONES_BUTCHER, julian = MEEUS_JULIAN;
+
+      if (property.equals(CALIBRATE)) {
+        double[] nanosPerYear = calibrate(algorithms, createSample());
+        western = fastest(algorithms, nanosPerYear, false);
+        julian = fastest(algorithms, nanosPerYear, true);
+      }
+      else if (!property.isEmpty()) {
+        String[] names = property.split(",");
+        for (int i = names.length - 1; i >= 0; i--) {
+          ComputusAlgorithm named;
+          if ((named = find(algorithms, false, names[i].trim())) != null)
+            western = named;
+          if ((named = find(algorithms, true, names[i].trim())) != null)
+            julian = named;
+        }
+
+        /* a named algorithm is only used if it gives the same results as the default one (check() writes why it is rejected) */
+        int[] sample = ((western != MEEUS_JONES_BUTCHER) || (julian != MEEUS_JULIAN)) ? createSample() : null;
+        if ((western != MEEUS_JONES_BUTCHER) && !check(western, sample))
+          western = MEEUS_JONES_BUTCHER;
+        if ((julian != MEEUS_JULIAN) && !check(julian, sample))
+          julian = MEEUS_JULIAN;
+      }
+
+      WESTERN = western;
+      JULIAN = julian;
+
+    }
+
+  }
+
+  /* Runs the calibration and writes the time per year of each algorithm */
+  public static void main(String[] args){
+
+    List<ComputusAlgorithm> algorithms = getAlgorithms();
+    double[] nanosPerYear = calibrate(algorithms, createSample());
+
+    System.out.println("Calendar,Algorithm,Nanoseconds per year");
+    for (int index = 0; index < algorithms.size(); index++) {
+      ComputusAlgorithm algorithm = algorithms.get(index);
+      System.out.printf("%s,%s,%s%n", algorithm.isJulian() ? "Julian" : "Gregorian", algorithm.getName(),
+                        Double.isNaN(nanosPerYear[index]) ? "rejected" : String.format("%.2f", nanosPerYear[index]));
+    }
+
+    System.out.println();
+    System.out.println("Fastest Western Easter algorithm: "+fastest(algorithms, nanosPerYear, false).getName());
+    System.out.println("Fastest Eastern Easter algorithm: "+fastest(algorithms, nanosPerYear, true).getName());
+
+  }
+
+  /* The Anonymous Gregorian ("Meeus/Jones/Butcher") algorithm of Computus class */
+  private static final class MeeusJonesButcher implements ComputusAlgorithm {
+
+    @Override
+    public String getName(){
+      return "meeus-jones-butcher";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return false;
+    }
+
+    @Override
+    public int easterOffset(int year){
+      return Computus.westernEasterOffset(year);
+    }
+
+  }
+
+  /*
+   * Gauss's Easter algorithm.
+   *
+   * The paschal full moon is d days after March 21, and Easter is e days after the day following it.
+   * The two exceptions move the paschal full moons of April 19 (always) and April 18 (only in some lunar cycles) one day earlier.
+   */
+  private static final class Gauss implements ComputusAlgorithm {
+
+    @Override
+    public String getName(){
+      return "gauss";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return false;
+    }
+
+    @Override
+    public int easterOffset(int year){
+
+      int a,b,c,k,p,q,m,n,d,e;
+
+      a = year % 19;
+      b = year % 4;
+      c = year % 7;
+      k = year / 100;
+      p = (13 + 8*k) / 25;
+      q = k / 4;
+      m = (15 - p + k - q) % 30;
+      n = (4 + k - q) % 7;
+      d = (19*a + m) % 30;
+      e = (2*b + 4*c + 6*d + n) % 7;
+
+      if ((d == 29) && (e == 6))
+        return 28;
+      if ((d == 28) && (e == 6) && ((11*m + 11) % 30 < 19))
+        return 27;
+
+      return d + e;
+
+    }
+
+  }
+
+  /*
+   * The paschal full moon is found from the Gregorian epact (as in Knuth's version of the algorithm),
+   * and its day of the week with Conway's Doomsday rule: the last day of February is a "doomsday",
+   * whose day of the week only depends on the century (its anchor day) and on the year within the century.
+   */
+  private static final class Conway implements ComputusAlgorithm {
+
+    @Override
+    public String getName(){
+      return "conway";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return false;
+    }
+
+    @Override
+    public int easterOffset(int year){
+
+      int century = year / 100, yearOfCentury = year % 100;
+
+      /* day of the week of the last day of February (0 = Sunday), which is also "March 0" */
+      int anchor = (5*(century % 4) + 2) % 7;
+      int doomsday = (anchor + yearOfCentury + yearOfCentury/4) % 7;
+
+      /* epact, with the solar (x) and lunar (z) corrections of the Gregorian calendar */
+      int golden = year % 19 + 1;
+      int x = 3*(century + 1)/4 - 12;
+      int z = (8*(century + 1) + 5)/25 - 5;
+      int epact = Math.floorMod(11*golden + 20 + z - x, 30);
+      if ((epact == 24) || ((epact == 25) && (golden > 11)))
+        epact++;
+
+      /* paschal full moon as a day of March (above 31 for April), and the next Sunday */
+      int fullMoon = 44 - epact;
+      if (fullMoon < 21)
+        fullMoon += 30;
+
+      return fullMoon + 7 - (doomsday + fullMoon) % 7 - 22;
+
+    }
+
+  }
+
+  /*
+   * The paschal full moon only depends on the golden number (the position of the year in the 19 years lunar cycle)
+   * and on a correction that changes at most once per century, so all the paschal full moons (including the two exceptions
+   * of the Gregorian calendar) are read from a table of 30 corrections by 19 golden numbers.
+   * Easter is then the first Sunday after the full moon.
+   */
+  private static final class Table implements ComputusAlgorithm {
+
+    /* paschal full moon as days after March 21, for each correction (rows) and golden number (columns, 0 to 18) */
+    private static final byte[] PASCHAL_FULL_MOONS = new byte[30 * 19];
+
+    static {
+      for (int correction = 0; correction < 30; correction++) {
+        for (int golden = 0; golden < 19; golden++) {
+          int fullMoon = (19*golden + 15 + correction) % 30;
+          if ((fullMoon == 29) || ((fullMoon == 28) && (golden > 10)))
+            fullMoon--;
+          PASCHAL_FULL_MOONS[correction * 19 + golden] = (byte) fullMoon;
+        }
+      }
+    }
+
+    @Override
+    public String getName(){
+      return "table";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return false;
+    }
+
+    @Override
+    public int easterOffset(int year){
+
+      int century = year / 100;
+      int correction = (century - century/4 - (century - (century + 8)/25 + 1)/3) % 30;
+      int fullMoon = PASCHAL_FULL_MOONS[correction * 19 + year % 19];
+
+      /* day of the week of March 1 (0 = Sunday), then of the full moon (which is fullMoon+20 days after March 1) */
+      int marchFirst = (year + year/4 - year/100 + year/400 + 3) % 7;
+      int fullMoonDay = (marchFirst + fullMoon + 20) % 7;
+
+      return fullMoon + 6 - fullMoonDay;
+
+    }
+
+  }
+
+  /* Meeus's Julian algorithm of Computus class */
+  private static final class MeeusJulian implements ComputusAlgorithm {
+
+    @Override
+    public String getName(){
+      return "meeus-julian";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return true;
+    }
+
+    @Override
+    public int easterOffset(int year){
+      return Computus.julianEasterOffset(year);
+    }
+
+  }
+
+  /* Gauss's Easter algorithm for the Julian calendar, where the lunar and solar corrections are the constants M = 15 and N = 6 */
+  private static final class GaussJulian implements ComputusAlgorithm {
+
+    @Override
+    public String getName(){
+      return "gauss-julian";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return true;
+    }
+
+    @Override
+    public int easterOffset(int year){
+
+      int d = (19*(year % 19) + 15) % 30;
+      int e = (2*(year % 4) + 4*(year % 7) + 6*d + 6) % 7;
+
+      return d + e;
+
+    }
+
+  }
+
+  /* The paschal full moons of the Julian calendar only depend on the golden number, so they are read from a table of 19 values */
+  private static final class TableJulian implements ComputusAlgorithm {
+
+    /* paschal full moon as days after March 21, for each golden number (0 to 18) */
+    private static final byte[] PASCHAL_FULL_MOONS = new byte[19];
+
+    static {
+      for (int golden = 0; golden < 19; golden++)
+        PASCHAL_FULL_MOONS[golden] = (byte) ((19*golden + 15) % 30);
+    }
+
+    @Override
+    public String getName(){
+      return "table-julian";
+    }
+
+    @Override
+    public boolean isJulian(){
+      return true;
+    }
+
+    @Override
+    public int easterOffset(int year){
+
+      int fullMoon = PASCHAL_FULL_MOONS[year % 19];
+
+      /* day of the week of March 1 of the Julian calendar (0 = Sunday), then of the full moon */
+      int marchFirst = (year + year/4 + 1) % 7;
+      int fullMoonDay = (marchFirst + fullMoon + 20) % 7;
+
+      return fullMoon + 6 - fullMoonDay;
+
+    }
+
+  }
+
+}
@@ -0,0 +1,101 @@
+package javafxeasterdatecalculator;
+
+/*
+ * This class computes the Easter dates of blocks of consecutive years, as days after March 22 (see Computus class).
+ *
+ * There are two implementations:
+ *   - a scalar one, which simply runs an Easter algorithm for each year (the algorithms of Computus class,
+ *     unless other ones were chosen through ComputusAlgorithms);
+ *   - a data-parallel one (VectorComputusKernel), which computes several years at once with the Vector API.
+ * The Vector API is still an incubator module of the JDK, which is only available when the JVM is started with
+ * "--add-modules jdk.incubator.vector". The vector kernel is compiled separately (it is in the "src-vector" folder), so it may also be missing.
+ * The implementation is chosen the first time it is needed: the vector kernel is used when the module and the class are present
+ * (unless the "javafxeasterdatecalculator.vector" system property is "false"), otherwise the scalar kernel is used.
+ * Both kernels give exactly the same results.
+ *
+ * The kernels only accept non-negative years, like EasterYearRange.
+ */
+abstract class ComputusKernel {
+
+  static final String VECTOR_PROPERTY = "javafxeasterdatecalculator.vector";
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+  private static final String VECTOR_KERNEL_CLASS = "javafxeasterdatecalculator.VectorComputusKernel";
+
+  /* Writes Western Easter of the years in [firstYear, firstYear+count) into destination, starting at the given position */
+  abstract void westernEasterOffsets(int firstYear, int count, byte[] destination, int position);
+
+  /* Writes Eastern Easter on Julian calendar of the years in [firstYear, firstYear+count) into destination, starting at the given position */
+  abstract void julianEasterOffsets(int firstYear, int count, byte[] destination, int position);
+
+  abstract String getName();
+
+  /* Returns the kernel chosen for the running JVM */
+  static ComputusKernel getInstance(){
+    return Holder.INSTANCE;
+  }
+
+  static ComputusKernel getScalarKernel(){
+    return Scalar.INSTANCE;
+  }
+
+  /*
+   * Returns the vector kernel, or null if the Vector API is not available.
+   * The vector kernel class is only loaded through reflection, so that the rest of the application never links to the incubator module.
+   */
+  static ComputusKernel getVectorKernel(){
+
+    if (!ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent())
+      return null;
+
+    try {
+      return (ComputusKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+    }
+    catch (ReflectiveOperationException | LinkageError e){
+      return null;
+    }
+
+  }
+
+  /* The kernel is chosen by the class loader the first time it is needed (lazy holder) */
+  private static final class Holder {
+
+    static final ComputusKernel INSTANCE = choose();
+
+    private static ComputusKernel choose(){
+
+      ComputusKernel vectorKernel = Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true")) ? getVectorKernel() : null;
+      return (vectorKernel != null) ? vectorKernel : Scalar.INSTANCE;
+
+    }
+
+  }
+
+  private static final class Scalar extends ComputusKernel {
+
+    static final Scalar INSTANCE = new Scalar();
+
+    /* the chosen algorithms are held in static final fields, so the JIT compiler knows their class and inlines them */
+
+    @Override
+    void westernEasterOffsets(int firstYear, int count, byte[] destination, int position){
+      ComputusAlgorithm algorithm = ComputusAlgorithms.getWestern();
+      for (int i = 0; i < count; i++)
+        destination[position + i] = (byte) algorithm.easterOffset(firstYear + i);
+    }
+
+    @Override
+    void julianEasterOffsets(int firstYear, int count, byte[] destination, int position){
+      ComputusAlgorithm algorithm = ComputusAlgorithms.getJulian();
+      for (int i = 0; i < count; i++)
+        destination[position + i] = (byte) algorithm.easterOffset(firstYear + i);
+    }
+
+    @Override
+    String getName(){
+      return "scalar";
+    }
+
+  }
+
+}
@@ -0,0 +1,212 @@
+package javafxeasterdatecalculator;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * This class is a command line alternative to the user interface, meant for processing large files of years.
+ *
+ * It reads years from the standard input (or a file) and writes their Easter dates to the standard output (or a file),
+ * as CSV lines or JSON lines (see EasterRecordWriter for the format of the records).
+ *
+ * The years are separated by new lines, white space or commas. Each year is validated the same way as in the user interface
+ * (only digits, at most 8 of them), and the same rules are applied to it (no Easter before AD 26, only Julian Easter before 1583).
+ * An invalid input produces an error record with its line number, and the processing goes on.
+ *
+ * Both the input and the output go through fixed size buffers, so the memory used does not depend on the size of the input.
+ * The input is parsed byte by byte, without creating a String for each year.
+ * When the processing ends, a report with the number of years and the throughput is written to the standard error.
+ *
+ * Usage:
+ *   java javafxeasterdatecalculator.EasterBatch [--format csv|json] [--input file] [--output file] [--no-header]
+ */
+final class EasterBatch {
+
+  static final int BUFFER_SIZE = 1 << 20;
+
+  /* maximum number of digits of a year, the same as the length limit of the input field of the user interface */
+  static final int MAX_YEAR_DIGITS = 8;
+
+  static final String USAGE = "Usage: java javafxeasterdatecalculator.EasterBatch [--format csv|json] [--input file] [--output file] [--no-header]";
+
+  /* a progress line is written to the standard error after each such number of records */
+  static final long PROGRESS_INTERVAL = 1L << 26;
+
+  private final EasterRecordWriter writer;
+  private final PrintStream report;
+
+  private long records, invalidRecords;
+
+  /* state of the year being parsed; a year may be split between two reads of the input */
+  private int value, length;
+  private boolean invalid;
+  private long lineNumber = 1, tokenLineNumber;
+
+  EasterBatch(EasterRecordWriter writer, PrintStream report){
+    this.writer = writer;
+    this.report = report;
+  }
+
+  /* Processes the whole input; the output is flushed, but not closed */
+  void process(ReadableByteChannel input) throws IOException {
+
+    long startTime = System.nanoTime();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /* the job is recorded by Flight Recorder, when a recording is running */
+    EasterBatchEvent event = new EasterBatchEvent("batch");
+    event.begin();
+
+    while (input.read(buffer) >= 0) {
+
+      buffer.flip();
+      while (buffer.hasRemaining())
+        accept(buffer.get());
+      buffer.clear();
+
+    }
+
+    endToken();
+    writer.flush();
+
+    event.years = records;
+    event.invalidInputs = invalidRecords;
+    event.bytesWritten = writer.getBytesWritten();
+    event.commit();
+
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    report.printf("Processed %d years (%d invalid) in %.3f s: %.0f years/s, %d bytes written.%n",
+                  records, invalidRecords, seconds, records / Math.max(seconds, 1e-9), writer.getBytesWritten());
+
+  }
+
+  private void accept(byte character) throws IOException {
+
+    if ((character == '\n') || (character == '\r') || (character == ' ') || (character == '\t') || (character == ',')) {
+      endToken();
+      if (character == '\n')
+        lineNumber++;
+      return;
+    }
+
+    if (length++ == 0)
+      tokenLineNumber = lineNumber;
+
+    if ((character >= '0') && (character <= '9') && (length <= MAX_YEAR_DIGITS))
+      value = value*10 + (character - '0');
+    else
+      invalid = true;
+
+  }
+
+  private void endToken() throws IOException {
+
+    if (length == 0)
+      return;
+
+    if (invalid) {
+      writer.writeInvalidInput(tokenLineNumber);
+      invalidRecords++;
+    }
+    else
+      writer.writeYear(value);
+
+    if ((++records % PROGRESS_INTERVAL) == 0)
+      report.println("Processed "+records+" years...");
+
+    value = 0;
+    length = 0;
+    invalid = false;
+
+  }
+
+  /* Reports an invalid command line, with the usage of the command, and exits with a non-zero status */
+  private static void exitWithUsage(String message){
+    System.err.println(message);
+    System.err.println(USAGE);
+    System.exit(1);
+  }
+
+  /* Returns the value that follows the option at the given index of the arguments */
+  private static String optionValue(String[] args, int optionIndex){
+
+    if (optionIndex + 1 == args.length)
+      exitWithUsage("Missing value of "+args[optionIndex]+".");
+
+    return args[optionIndex + 1];
+
+  }
+
+  /* Opens the input file, or the standard input when no file is given */
+  private static ReadableByteChannel openInput(String inputFile) throws IOException {
+    return (inputFile == null) ? Channels.newChannel(new FileInputStream(FileDescriptor.in))
+                               : FileChannel.open(Paths.get(inputFile), StandardOpenOption.READ);
+  }
+
+  /* Opens (and truncates) the output file, or the standard output when no file is given */
+  private static WritableByteChannel openOutput(String outputFile) throws IOException {
+    return (outputFile == null) ? Channels.newChannel(new FileOutputStream(FileDescriptor.out))
+                                : FileChannel.open(Paths.get(outputFile), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    int format = EasterRecordWriter.CSV;
+    boolean header = true;
+    String inputFile = null, outputFile = null;
+
+    for (int i = 0; i < args.length; i++) {
+
+      switch (args[i]) {
+
+        case "--format":
+          String formatName = optionValue(args, i++);
+          if (formatName.equals("json"))
+            format = EasterRecordWriter.JSON;
+          else if (!formatName.equals("csv"))
+            exitWithUsage("Unknown format: "+formatName);
+          break;
+
+        case "--input":
+          inputFile = optionValue(args, i++);
+          break;
+
+        case "--output":
+          outputFile = optionValue(args, i++);
+          break;
+
+        case "--no-header":
+          header = false;
+          break;
+
+        default:
+          exitWithUsage("Unknown option: "+args[i]);
+
+      }
+
+    }
+
+    /* the writer closes the output itself, but the output is also a resource, so that it is closed if the writer cannot be created */
+    try (ReadableByteChannel in = openInput(inputFile); WritableByteChannel out = openOutput(outputFile);
+         EasterRecordWriter writer = new EasterRecordWriter(out, format, BUFFER_SIZE)) {
+
+      if (header)
+        writer.writeHeader();
+
+      new EasterBatch(writer, System.err).process(in);
+
+    }
+
+  }
+
+}
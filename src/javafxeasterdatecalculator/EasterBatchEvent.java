@@ -0,0 +1,39 @@
+package javafxeasterdatecalculator;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * Flight Recorder event for a batch job (processing a file of years, or generating a table file).
+ *
+ * The event spans the whole job, so in a recording it can be seen next to the garbage collections and the other
+ * JVM events that happened during the job. Like all JFR events, it costs almost nothing when no recording is running.
+ */
+@Name("javafxeasterdatecalculator.Batch")
+@Label("Easter Batch Job")
+@Category("Easter Date Calculator")
+@Description("Easter dates computed for many years at once")
+final class EasterBatchEvent extends Event {
+
+  @Label("Job")
+  String job;
+
+  @Label("Years")
+  long years;
+
+  @Label("Invalid Inputs")
+  long invalidInputs;
+
+  @Label("Bytes Written")
+  @DataAmount
+  long bytesWritten;
+
+  EasterBatchEvent(String job){
+    this.job = job;
+  }
+
+}
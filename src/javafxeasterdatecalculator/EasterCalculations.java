@@ -0,0 +1,187 @@
+package javafxeasterdatecalculator;
+
+import java.time.LocalDate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * This class holds the Easter calculations of the application: input validation, Western and Eastern Easter dates, and the result message.
+ *
+ * They used to be part of EasterDateCalculator, but that class extends javafx.application.Application, so any program using them
+ * had to load JavaFX classes, even without a window. This class does not use any JavaFX class, so the command line tools,
+ * the services and EasterLauncher only load the classes they actually need, and start faster.
+ */
+final class EasterCalculations {
+
+  static final String lineSeparator = System.lineSeparator();
+
+  /* the pattern is compiled only once, since it is used for every change of the input */
+  static final Pattern yearPattern = Pattern.compile("[0-9]{1,8}");
+
+  private EasterCalculations(){
+  }
+
+  /*
+   * This method is used for validating user input.
+   * Each input field can contain at most 8 digits (0-9).
+   */
+  static boolean validateValue(String inputString){
+
+    Matcher m = yearPattern.matcher(inputString);
+    boolean b = m.matches();
+
+    if (EasterMetrics.ENABLED && !b)
+      EasterMetrics.INVALID_INPUTS.increment();
+
+    return b;
+
+  }
+
+  /* 
+   * This method returns Gregorian date for Western (Catholic) Easter.
+   * Gregorian calendar is the one being currently used in most of the world.  
+   */
+  static LocalDate getWesternEasterOnGregorianCalendar(int year){
+
+    /* the duration of the calculation is only measured when the metrics are enabled (see EasterMetrics) */
+    long startTime = EasterMetrics.ENABLED ? System.nanoTime() : 0;
+
+    /* we use Anonymous Gregorian algorithm (also known as "Meeus/Jones/Butcher" algorithm, because of the book where it was published) */
+
+    int a,b,c,d,e,f,g,h,i,k,l,m,day,month;
+
+    a = year % 19;
+    b = year / 100;
+    c = year % 100;
+    d = b / 4;
+    e = b % 4;
+    f = (b + 8) / 25;
+    g = (b - f + 1) / 3;
+    h = (19*a + b - d - g + 15) % 30;
+    i = c / 4;
+    k = c % 4;
+    l = (32 + 2*e + 2*i - h - k) % 7;
+    m = (a + 11*h + 22*l) / 451;
+
+    month = (h + l - 7*m + 114) / 31;
+    day = ((h + l - 7*m + 114) % 31) + 1;
+
+    LocalDate date = LocalDate.of(year, month, day);
+
+    if (EasterMetrics.ENABLED)
+      EasterMetrics.WESTERN_COMPUTUS.record(startTime);
+
+    return date;
+
+  }
+
+  /*
+   * This method returns Julian date for Eastern (Orthodox) Easter.
+   * To obtain the date according to present time calendar, this method's result needs to be converted to Gregorian date. 
+   */
+  static JulianDate getJulianEasterOnJulianCalendar(int year){
+
+    long startTime = EasterMetrics.ENABLED ? System.nanoTime() : 0;
+
+    /* we use Meeus's Julian algorithm */
+
+    int a,b,c,d,e,day,month;
+
+    a = year % 4;
+    b = year % 7;
+    c = year % 19;
+
+    d = (19*c + 15) % 30;
+    e = (2*a + 4*b - d + 34) % 7;
+
+    month = (d + e + 114) / 31;
+    day = ((d + e + 114) % 31) + 1;
+
+    /* we return an instance of a custom class created to hold Julian dates; the computus always returns a valid date, so it is not validated again */ 
+    JulianDate date = JulianDate.trusted(year, month, day);
+
+    if (EasterMetrics.ENABLED)
+      EasterMetrics.JULIAN_COMPUTUS.record(startTime);
+
+    return date;
+
+  }
+
+  /*
+   * This method is used to convert a date to a format that would eliminate user confusion between days and months.
+   * It returns a date where the month is given by its name, instead of its number. This date will be displayed to the user.
+   */
+  public static String getCustomFormattedDate(LocalDate date){
+    return date.getDayOfMonth()+" "+date.getMonth()+" "+date.getYear();
+  }
+
+  /*
+   * This method returns the message displayed for the given input.
+   * It does not use any JavaFX object, so it can be called from any thread.
+   */
+  static String getResultMessage(String yearText){
+
+    String message="";
+    int givenYear = 0;
+
+    if(validateValue(yearText) == true){
+
+      givenYear = Integer.parseInt(yearText);
+      EasterResult easterResult = EasterResult.of(givenYear);
+      JulianDate julianEasterJulianDate = easterResult.getJulianEaster();
+
+      if (easterResult.isBeforeFirstEaster())
+        message = EasterResult.NO_EASTER_MESSAGE+lineSeparator+EasterResult.FIRST_EASTER_YEAR_MESSAGE;
+      else{
+
+        if (easterResult.isJulianOnly()){ 
+          /* Gregorian calendar did not exist, so only Julian Easter is calculated */
+          message = "Easter date was "+julianEasterJulianDate.getCustomFormattedDate()+" (Julian date).";
+        }
+
+        else {
+
+          /* both Western and Eastern Easter dates have been calculated */
+
+          String verbForWesternEasterResultTense = "is";
+          String verbForEasternEasterResultTense = "is";
+
+          LocalDate today = LocalDate.now();
+          LocalDate westernEasterDate = easterResult.getWesternEaster();
+          LocalDate julianEasterGregorianDate = easterResult.getEasternEaster();
+
+          if (westernEasterDate.compareTo(today)<0)
+            verbForWesternEasterResultTense = "was";
+
+          if (julianEasterGregorianDate.compareTo(today)<0)
+            verbForEasternEasterResultTense = "was";
+
+          message="Western Easter "+verbForWesternEasterResultTense+ " on "+getCustomFormattedDate(westernEasterDate)+" (Gregorian date).";
+          if (westernEasterDate.compareTo(today)==0) message+=" Today.";
+
+          message+=lineSeparator+"Eastern Easter "+verbForEasternEasterResultTense+" on "+julianEasterJulianDate.getCustomFormattedDate()+" (Julian date). That is "+getCustomFormattedDate(julianEasterGregorianDate)+" (Gregorian date).";
+          if (julianEasterGregorianDate.compareTo(today)==0) message+=" Today.";
+
+          /* If both Easter dates are the same (according to presently used Gregorian calendar) display an appropriate message */
+          if (easterResult.isSameDay()){
+            if (westernEasterDate.compareTo(today)<0)
+              message+=lineSeparator+"Both Easters were celebrated on the same day.";
+            else
+              message+=lineSeparator+"Both Easters are celebrated on the same day.";
+          }
+
+        }
+
+      }
+
+    }
+
+    else{
+      message = EasterResult.INVALID_INPUT_MESSAGE;
+    }
+
+    return message;
+
+  }
+
+}
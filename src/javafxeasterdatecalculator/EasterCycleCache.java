@@ -0,0 +1,159 @@
+package javafxeasterdatecalculator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * This class answers Easter date lookups from precomputed tables, instead of running the Easter algorithms for each year.
+ *
+ * Both algorithms from Computus class are periodic:
+ *   - Meeus's Julian algorithm only uses the year modulo 4, 7 and 19, so its results repeat every 4*7*19 = 532 years;
+ *   - the Anonymous Gregorian algorithm repeats every 5,700,000 years (the period of the Gregorian solar and lunar corrections).
+ * So the Easter date of any year is the Easter date of (year modulo cycle length), which is an index into a table of offsets (days after March 22).
+ *
+ * The Julian table only has 532 entries; it is built once, the first time it is needed, and it is shared by all the instances of this class.
+ * The Gregorian table has 5,700,000 entries (one byte each), so it is split into blocks that are built only when a year inside them is requested.
+ * The number of Gregorian blocks kept in memory is limited by the memory limit given to the constructor. When the limit is reached,
+ * a block that was not used recently is evicted to make room for a new one (clock algorithm, an approximation of "least recently used"). A limit of zero disables the Gregorian table,
+ * in which case the Gregorian algorithm is simply run for each lookup.
+ *
+ * Lookups of blocks that are already built do not take any lock. Only building (and evicting) a block is synchronized.
+ *
+ * The cycles only hold for non-negative years, since the algorithms use Java's remainder operator, which keeps the sign of the year.
+ * For negative years, the algorithms are run directly, so the results are always the same as the ones returned by Computus class.
+ */
+final class EasterCycleCache {
+
+  static final int JULIAN_CYCLE = 532;
+  static final int GREGORIAN_CYCLE = 5700000;
+
+  /* number of Gregorian years held by a block; a power of two, so that the block and the index inside it are obtained with shifting and masking */
+  static final int BLOCK_SHIFT = 16;
+  static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+  static final int BLOCK_COUNT = (GREGORIAN_CYCLE + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+  /* the memory needed for keeping the whole Gregorian table in memory (about 5.4 MiB) */
+  static final long FULL_GREGORIAN_TABLE_BYTES = GREGORIAN_CYCLE;
+
+  private final int maxBlocks;
+  private final AtomicReferenceArray<byte[]> blocks = new AtomicReferenceArray<>(BLOCK_COUNT);
+
+  /*
+   * "Recently used" flags of the blocks, for the clock algorithm: a lookup sets the flag of its block, and the eviction clears the flags
+   * it passes over, evicting the first block whose flag is already clear. A lookup only writes the flag when it is not set yet,
+   * so the lookups of a block that stays in use only read it, and the threads do not keep writing to the same memory.
+   * The flags are written without synchronization, so concurrent lookups may be missed; this only makes the eviction order approximate.
+   */
+  private final boolean[] recentlyUsed = new boolean[BLOCK_COUNT];
+
+  /* the next block examined by the eviction; only used while holding the lock of this instance */
+  private int clockHand;
+
+  /* number of Gregorian blocks currently in memory; only changed while holding the lock of this instance */
+  private int residentBlocks;
+
+  /*
+   * The Gregorian table may use at most maxGregorianBytes bytes of memory, rounded down to whole blocks.
+   * Use FULL_GREGORIAN_TABLE_BYTES (or more) to keep the whole table, and zero to disable it.
+   */
+  EasterCycleCache(long maxGregorianBytes){
+
+    if (maxGregorianBytes < 0)
+      throw new IllegalArgumentException("Invalid memory limit: "+maxGregorianBytes);
+
+    /* the last block is shorter than the others, so a limit that covers the whole table must allow all the blocks */
+    this.maxBlocks = (maxGregorianBytes >= FULL_GREGORIAN_TABLE_BYTES) ? BLOCK_COUNT : (int)(maxGregorianBytes / BLOCK_SIZE);
+
+  }
+
+  /* Returns Western Easter on Gregorian calendar, as days after March 22 (see Computus class). */
+  int westernEasterOffset(int year){
+
+    if ((year < 0) || (maxBlocks == 0))
+      return Computus.westernEasterOffset(year);
+
+    int cycleYear = year % GREGORIAN_CYCLE;
+    int blockIndex = cycleYear >>> BLOCK_SHIFT;
+
+    byte[] block = blocks.get(blockIndex);
+    if (block == null)
+      block = loadBlock(blockIndex);
+
+    if (!recentlyUsed[blockIndex])
+      recentlyUsed[blockIndex] = true;
+
+    return block[cycleYear & (BLOCK_SIZE - 1)];
+
+  }
+
+  /* Returns Eastern Easter on Julian calendar, as days after March 22 (see Computus class). */
+  int julianEasterOffset(int year){
+
+    if (year < 0)
+      return Computus.julianEasterOffset(year);
+
+    return JulianTable.OFFSETS[year % JULIAN_CYCLE];
+
+  }
+
+  /* Returns Western Easter as a Gregorian epoch day; the same value as Computus.westernEasterEpochDay(year) */
+  long westernEasterEpochDay(int year){
+    return Computus.gregorianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + westernEasterOffset(year);
+  }
+
+  /* Returns Eastern Easter as a Gregorian epoch day; the same value as Computus.easternEasterEpochDay(year) */
+  long easternEasterEpochDay(int year){
+    return Computus.julianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + julianEasterOffset(year);
+  }
+
+  /* Returns the number of Gregorian blocks currently kept in memory */
+  synchronized int getResidentBlocks(){
+    return residentBlocks;
+  }
+
+  int getMaxBlocks(){
+    return maxBlocks;
+  }
+
+  /* Builds a Gregorian block, evicting a block that was not used recently if the memory limit has been reached. */
+  private synchronized byte[] loadBlock(int blockIndex){
+
+    /* another thread may have built the block while this thread was waiting for the lock */
+    byte[] block = blocks.get(blockIndex);
+    if (block != null)
+      return block;
+
+    if (residentBlocks == maxBlocks) {
+
+      /* the flags are cleared while the hand passes over them, so it finds a block to evict within two turns */
+      while ((blocks.get(clockHand) == null) || recentlyUsed[clockHand]) {
+        recentlyUsed[clockHand] = false;
+        clockHand = (clockHand + 1) % BLOCK_COUNT;
+      }
+
+      blocks.set(clockHand, null);
+      clockHand = (clockHand + 1) % BLOCK_COUNT;
+      residentBlocks--;
+
+    }
+
+    int firstYear = blockIndex << BLOCK_SHIFT;
+    int lastYear = Math.min(firstYear + BLOCK_SIZE, GREGORIAN_CYCLE);
+
+    block = new EasterYearRange(firstYear, lastYear).getWesternEasterOffsets();
+
+    blocks.set(blockIndex, block);
+    recentlyUsed[blockIndex] = true;
+    residentBlocks++;
+
+    return block;
+
+  }
+
+  /* The Julian table is built by the class loader the first time it is used (lazy holder), so no synchronization is needed for reading it. */
+  private static final class JulianTable {
+
+    static final byte[] OFFSETS = new EasterYearRange(0, JULIAN_CYCLE).getJulianEasterOffsets();
+
+  }
+
+}
@@ -2,20 +2,27 @@ package javafxeasterdatecalculator;
 
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 import javafx.event.ActionEvent;
+import javafx.event.Event;
 import javafx.event.EventHandler;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-import java.time.LocalDate;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /*
  * This class creates an application with an input form where a user can enter a number
@@ -27,6 +34,14 @@ import java.time.LocalDate;
  * For years before 1583, when Gregorian calendar was not being used, the application returns only one Easter date,
  * using Julian Easter calculation.
  *
+ * The result is displayed while the user types: a short time after the last change of the input, the result message is computed
+ * by a background thread and then displayed by the JavaFX Application Thread, so that the user interface never waits for a computation.
+ *
+ * The user can also enter a range of years, whose Easter dates are displayed in a table. The table only computes the rows
+ * that are scrolled into view (see EasterRangeList), so a range can hold millions of years.
+ *
+ * The calculations themselves are in EasterCalculations, which does not depend on JavaFX (see EasterLauncher).
+ *
  * This application is developed using JavaFX 8.
  */
 
@@ -34,8 +49,6 @@ public class EasterDateCalculator extends Application {
 
   /* maximum input length */
   final int maxLength = 8;
-  
-  final String lineSeparator = System.lineSeparator();
 
   /* variable used for knowing when the application displayed a message after shortening a too long input given by the user */
   boolean lenghtLimitMessageDisplayed = false;
@@ -43,18 +56,22 @@ public class EasterDateCalculator extends Application {
   /* variable used for displaying the result */
   Label result = new Label();
 
+  /* delay (in milliseconds) between the last change of the input and the computation of the result */
+  final long liveResultDelay = 150;
+
   /*
-   * This method is used for validating user input.
-   * Each input field can contain at most 8 digits (0-9).
+   * Executor for the computation of the results. One thread is enough, since a result which is no longer needed is cancelled.
+   * The thread is a daemon, so it does not keep the application running after the window is closed.
    */
-  private boolean validateValue(String inputString){
-
-    Pattern p = Pattern.compile("[0-9]{1,8}");
-    Matcher m = p.matcher(inputString);
-    boolean b = m.matches();
-    return b;
+  final ScheduledThreadPoolExecutor resultExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+    Thread thread = new Thread(runnable, "Easter result computation");
+    thread.setDaemon(true);
+    return thread;
+  });
 
-  }
+  /* the last computation of a result that has been started, and its scheduling; they are only used by the JavaFX Application Thread */
+  Task<String> resultTask;
+  ScheduledFuture<?> resultSchedule;
 
   /*
    * Since JavaFX 8 does not come with a built-in method to limit the number of characters typed in a TextField,
@@ -87,6 +104,9 @@ public class EasterDateCalculator extends Application {
         /* mark that the input has been automatically shortened and that a message about this has been displayed */
         lenghtLimitMessageDisplayed = true;
 
+        /* the message about the length limit must stay visible, so the result for the shortened input is not displayed */
+        cancelResult();
+
       });
 
     }
@@ -109,67 +129,102 @@ public class EasterDateCalculator extends Application {
 
   }
 
-  /* 
-   * This method returns Gregorian date for Western (Catholic) Easter.
-   * Gregorian calendar is the one being currently used in most of the world.  
+  /*
+   * This method starts the computation of the result for the given input, after the given delay (in milliseconds).
+   * The computation still waiting or running for a previous input is cancelled, since its result would be out of date.
+   * It must be called by the JavaFX Application Thread.
    */
-  LocalDate getWesternEasterOnGregorianCalendar(int year){
+  private void computeResult(String yearText, long delay){
 
-    /* we use Anonymous Gregorian algorithm (also known as "Meeus/Jones/Butcher" algorithm, because of the book where it was published) */
+    cancelResult();
 
-    int a,b,c,d,e,f,g,h,i,k,l,m,day,month;
+    Task<String> task = new Task<String>(){
+      @Override
+      protected String call(){
+        return EasterCalculations.getResultMessage(yearText);
+      }
+    };
 
-    a = year % 19;
-    b = year / 100;
-    c = year % 100;
-    d = b / 4;
-    e = b % 4;
-    f = (b + 8) / 25;
-    g = (b - f + 1) / 3;
-    h = (19*a + b - d - g + 15) % 30;
-    i = c / 4;
-    k = c % 4;
-    l = (32 + 2*e + 2*i - h - k) % 7;
-    m = (a + 11*h + 22*l) / 451;
+    /*
+     * The handler is called by the JavaFX Application Thread (Task uses "Platform.runLater" for this).
+     * A task may complete just before being cancelled, so only the result of the last task is displayed.
+     */
+    task.setOnSucceeded(recordedHandler("result", event -> {
+      if (task == resultTask)
+        showMessage(task.getValue());
+    }));
 
-    month = (h + l - 7*m + 114) / 31;
-    day = ((h + l - 7*m + 114) % 31) + 1;
+    resultTask = task;
+    resultSchedule = resultExecutor.schedule(task, delay, TimeUnit.MILLISECONDS);
 
-    return LocalDate.of(year, month, day);
+  }
+
+  /* This method cancels the last computation of a result, if it has not completed yet. */
+  private void cancelResult(){
+
+    if (resultTask != null){
+      resultTask.cancel();
+      resultSchedule.cancel(false);
+      resultTask = null;
+      resultSchedule = null;
+    }
 
   }
 
   /*
-   * This method returns Julian date for Eastern (Orthodox) Easter.
-   * To obtain the date according to present time calendar, this method's result needs to be converted to Gregorian date. 
+   * This method creates the table which displays the Easter dates for a range of years.
+   * The columns cannot be sorted, since sorting would require computing all the rows of the range.
    */
-  JulianDate getJulianEasterOnJulianCalendar(int year){
+  private TableView<EasterRangeRow> createRangeTable(){
+
+    TableView<EasterRangeRow> table = new TableView<EasterRangeRow>();
+
+    addRangeColumn(table, "Year", row -> Integer.toString(row.getYear()));
+    addRangeColumn(table, "Western Easter (Gregorian date)", EasterRangeRow::getWesternEaster);
+    addRangeColumn(table, "Eastern Easter (Julian date)", EasterRangeRow::getJulianEaster);
+    addRangeColumn(table, "Eastern Easter (Gregorian date)", EasterRangeRow::getEasternEaster);
+    addRangeColumn(table, "Same day", row -> row.isSameDay() ? "Yes" : "");
 
-    /* we use Meeus's Julian algorithm */
+    /* with a fixed row height, the table does not need to measure any row it does not display */
+    table.setFixedCellSize(24);
 
-    int a,b,c,d,e,day,month;
+    table.setPlaceholder(new Label("Enter the first and the last year of a range to display its Easter dates."));
+    table.setPrefHeight(300);
 
-    a = year % 4;
-    b = year % 7;
-    c = year % 19;
+    return table;
 
-    d = (19*c + 15) % 30;
-    e = (2*a + 4*b - d + 34) % 7;
+  }
 
-    month = (d + e + 114) / 31;
-    day = ((d + e + 114) % 31) + 1;
+  private void addRangeColumn(TableView<EasterRangeRow> table, String title, Function<EasterRangeRow, String> value){
 
-    /* we return an instance of a custom class created to hold Julian dates */ 
-    return new JulianDate(year, month, day);
+    TableColumn<EasterRangeRow, String> column = new TableColumn<EasterRangeRow, String>(title);
+    column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+    column.setSortable(false);
+    column.setPrefWidth(135);
+    table.getColumns().add(column);
 
   }
 
   /*
-   * This method is used to convert a date to a format that would eliminate user confusion between days and months.
-   * It returns a date where the month is given by its name, instead of its number. This date will be displayed to the user.
+   * This method returns an event handler which runs the given one, and records it as a Flight Recorder event if it is slow
+   * (see EasterUiHandlerEvent), so that slow handlers can be told apart from garbage collection pauses in a recording.
    */
-  public String getCustomFormattedDate(LocalDate date){
-    return date.getDayOfMonth()+" "+date.getMonth()+" "+date.getYear();
+  private static <T extends Event> EventHandler<T> recordedHandler(String name, EventHandler<T> handler){
+
+    return event -> {
+
+      EasterUiHandlerEvent handlerEvent = new EasterUiHandlerEvent(name);
+      handlerEvent.begin();
+
+      try {
+        handler.handle(event);
+      }
+      finally {
+        handlerEvent.commit();
+      }
+
+    };
+
   }
 
   public static void main(String[] args){
@@ -194,8 +249,27 @@ public class EasterDateCalculator extends Application {
     /* adding a listener, to be called whenever the text for the year changes */
     yearField.textProperty().addListener((observable,oldValue,newValue)->{
 
-      /* the input is not allowed to exceed a certain size */
-      limitSize(yearField, maxLength);
+      EasterUiHandlerEvent handlerEvent = new EasterUiHandlerEvent("yearInput");
+      handlerEvent.begin();
+
+      try {
+
+        /* the input is not allowed to exceed a certain size */
+        limitSize(yearField, maxLength);
+
+        /* the result is computed while the user types, once the input has not changed for a short time */
+        if (newValue.isEmpty()){
+          cancelResult();
+          if (lenghtLimitMessageDisplayed == false)
+            showMessage("");
+        }
+        else if (newValue.length() <= maxLength)
+          computeResult(newValue, liveResultDelay);
+
+      }
+      finally {
+        handlerEvent.commit();
+      }
 
     });
 
@@ -206,83 +280,22 @@ public class EasterDateCalculator extends Application {
     submitButton.setDefaultButton(true);
 
     /* adding EventHandler to the button */
-    submitButton.setOnAction(new EventHandler<ActionEvent>(){
+    submitButton.setOnAction(recordedHandler("submit", new EventHandler<ActionEvent>(){
 
       @Override
       public void handle(ActionEvent e){
 
-        String message="";
-        String yearText = yearField.getText();
-        int givenYear = 0;
-        JulianDate julianEasterJulianDate;
-
-        if(validateValue(yearText) == true){
-
-          givenYear = Integer.parseInt(yearText);
-
-          if (givenYear<26)
-            message = "It is estimated that Jesus was crucified between AD 26 and AD 37. Before that, no Easter existed."
-                     +lineSeparator+"This application returns results for years starting with AD 26.";
-          else{
-
-            if (givenYear<1583){ 
-              /* Gregorian calendar did not exist, so only Julian Easter is calculated */
-              julianEasterJulianDate = getJulianEasterOnJulianCalendar(givenYear);
-              message = "Easter date was "+julianEasterJulianDate.getCustomFormattedDate()+" (Julian date).";
-            }
-
-            else {
-
-              /* we calculate both Western and Eastern Easter dates */
-
-              String verbForWesternEasterResultTense = "is";
-              String verbForEasternEasterResultTense = "is";
-
-              LocalDate today = LocalDate.now();
-              LocalDate westernEasterDate = getWesternEasterOnGregorianCalendar(givenYear);
-              julianEasterJulianDate = getJulianEasterOnJulianCalendar(givenYear);
-              LocalDate julianEasterGregorianDate = julianEasterJulianDate.julianDateToGregorianDate();
-
-              if (westernEasterDate.compareTo(today)<0)
-                verbForWesternEasterResultTense = "was";
-
-              if (julianEasterGregorianDate.compareTo(today)<0)
-                verbForEasternEasterResultTense = "was";
+        /* the result is computed without delay, by the same background thread as the results computed while typing */
+        computeResult(yearField.getText(), 0);
 
-              message="Western Easter "+verbForWesternEasterResultTense+ " on "+getCustomFormattedDate(westernEasterDate)+" (Gregorian date).";
-              if (westernEasterDate.compareTo(today)==0) message+=" Today.";
-
-              message+=lineSeparator+"Eastern Easter "+verbForEasternEasterResultTense+" on "+julianEasterJulianDate.getCustomFormattedDate()+" (Julian date). That is "+getCustomFormattedDate(julianEasterGregorianDate)+" (Gregorian date).";
-              if (julianEasterGregorianDate.compareTo(today)==0) message+=" Today.";
-
-              /* If both Easter dates are the same (according to presently used Gregorian calendar) display an appropriate message */
-              if (westernEasterDate.compareTo(julianEasterGregorianDate)==0){
-                if (westernEasterDate.compareTo(today)<0)
-                  message+=lineSeparator+"Both Easters were celebrated on the same day.";
-                else
-                  message+=lineSeparator+"Both Easters are celebrated on the same day.";
-              }
-
-            }
-
-          }
-
-        }
-
-        else{
-          message = "Invalid input. Must contain digits representing a positive integral number.";
-        }
-
-        showMessage(message);
-
-        /* A result message has been displayed, so we reset the variable used with input length message */
+        /* A result message will be displayed, so we reset the variable used with input length message */
         if (lenghtLimitMessageDisplayed == true){
           lenghtLimitMessageDisplayed = false;
         }
 
       }
 
-    });
+    }));
 
     /* creating a Clear button, with C as its mnemonic */
     Button clearButton = new Button("_Clear");
@@ -295,6 +308,7 @@ public class EasterDateCalculator extends Application {
       @Override
       public void handle(ActionEvent e){
         yearField.clear();
+        cancelResult();
         showMessage("");
       }
     });
@@ -308,11 +322,72 @@ public class EasterDateCalculator extends Application {
     /* setting the horizontal spacing between children to 5px */
     buttonBox.setSpacing(5);
 
+    /* creating the input fields for a range of years */
+    Label rangeMessage = new Label ("Enter a range of years:");
+    rangeMessage.setFont(Font.font(textFont, 12));
+
+    TextField startYearField = new TextField();
+    startYearField.setPromptText("First year");
+    startYearField.setMaxWidth(155);
+
+    TextField endYearField = new TextField();
+    endYearField.setPromptText("Last year");
+    endYearField.setMaxWidth(155);
+
+    /* creating the table for the Easter dates of the range */
+    TableView<EasterRangeRow> rangeTable = createRangeTable();
+
+    /* creating a button for displaying the range, with R as its mnemonic */
+    Button rangeButton = new Button("Show _range");
+
+    /* adding EventHandler to the button */
+    rangeButton.setOnAction(recordedHandler("range", new EventHandler<ActionEvent>(){
+
+      @Override
+      public void handle(ActionEvent e){
+
+        String startYearText = startYearField.getText();
+        String endYearText = endYearField.getText();
+
+        if ((EasterCalculations.validateValue(startYearText) == false) || (EasterCalculations.validateValue(endYearText) == false)){
+          showMessage(EasterResult.INVALID_INPUT_MESSAGE);
+          return;
+        }
+
+        int startYear = Integer.parseInt(startYearText);
+        int endYear = Integer.parseInt(endYearText);
+
+        if (startYear > endYear){
+          showMessage("The first year of the range must not be greater than the last year.");
+          return;
+        }
+
+        /* the rows are only computed when they are displayed, so creating the list is immediate, whatever the size of the range */
+        rangeTable.setItems(new EasterRangeList(startYear, endYear + 1));
+        rangeTable.scrollTo(0);
+        showMessage("");
+
+      }
+
+    }));
+
+    /* pressing Enter in the range fields displays the range, instead of calling the default button */
+    startYearField.setOnAction(e -> rangeButton.fire());
+    endYearField.setOnAction(e -> rangeButton.fire());
+
+    /* creating an HBox for the range */
+    HBox rangeBox = new HBox();
+    rangeBox.getChildren().addAll(startYearField, endYearField, rangeButton);
+    rangeBox.setSpacing(5);
+
+    /* the table takes the height left in the window */
+    VBox.setVgrow(rangeTable, Priority.ALWAYS);
+
     /* creating a VBox */
     VBox root = new VBox();
 
     /* adding the children to the VBox */
-    root.getChildren().addAll(inputMessage, yearField, buttonBox, result);
+    root.getChildren().addAll(inputMessage, yearField, buttonBox, result, rangeMessage, rangeBox, rangeTable);
 
     /* setting the vertical spacing between children to 5px */
     root.setSpacing(5);
@@ -341,6 +416,14 @@ public class EasterDateCalculator extends Application {
 
   }
 
+  @Override
+  public void stop(){
+
+    /* the computations waiting to be started are no longer needed */
+    resultExecutor.shutdownNow();
+
+  }
+
   private void showMessage(String message){
     result.setText(message);
   }
@@ -0,0 +1,508 @@
+package javafxeasterdatecalculator;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/*
+ * This class is a reverse index of Easter dates: for a date (calendar, month, day) it gives the years whose Easter falls on that date.
+ * It answers questions like "which years had Orthodox Easter on 5 May?" or "when do Western and Eastern Easter next coincide after year X?"
+ * without running the Easter algorithms for every year of the range.
+ *
+ * Three calendars are indexed:
+ *   - WESTERN: the Gregorian date of Western (Catholic) Easter;
+ *   - JULIAN: the Julian date of Eastern (Orthodox) Easter, as used by the Orthodox Church;
+ *   - EASTERN: the Gregorian date of Eastern (Orthodox) Easter, as used by the society.
+ * For each year it also records whether both Easters fall on the same Gregorian day, which is the check made by the user interface.
+ * The year of an Easter is always the year given to the Easter algorithm, even when the Gregorian date of Eastern Easter has moved
+ * into the next Gregorian year (which happens for very large years).
+ *
+ * The years of each date are kept in a compressed bitset. The years are split into chunks of 65536 years; a chunk holds either a sorted
+ * array of the (16 bit) positions of its years, when there are few of them, or a bitmap of 65536 bits. Chunks without any year take no memory,
+ * and neither do the dates without any year: only about a hundred of the possible dates are ever Easter dates, so the set of a date
+ * is only created when the first year falls on it.
+ * The number of years before each chunk is kept too, so that counting and searching the years of a range only looks at the chunks
+ * at the ends of the range (the chunks in between are skipped with a binary search over these counts).
+ *
+ * The index covers the years from the first year given to the constructor up to the year given to "extendTo" method, which can be
+ * called again later to extend the index. The new chunks are built in parallel, using the common fork/join pool.
+ * Each call publishes a new snapshot of the index, so queries made while the index is being extended see the previous range of years.
+ *
+ * Years must be in the [0, 999999999] interval, like for EasterYearRange.
+ */
+final class EasterDateIndex {
+
+  static final int WESTERN = 0;
+  static final int JULIAN = 1;
+  static final int EASTERN = 2;
+
+  static final int CHUNK_SHIFT = 16;
+  static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  /* a chunk with more years than this is held as a bitmap, which takes the same memory (8 KiB) as an array of this many positions */
+  private static final int MAX_ARRAY_CARDINALITY = CHUNK_SIZE / 16;
+
+  /* each calendar has one slot for every possible (month, day) pair: (month-1)*32 + (day-1) */
+  private static final int SLOTS_PER_CALENDAR = 12 * 32;
+  private static final int COINCIDENCE_SLOT = 3 * SLOTS_PER_CALENDAR;
+  private static final int SLOT_COUNT = COINCIDENCE_SLOT + 1;
+
+  private final int firstYear;
+
+  /* the current snapshot of the index; replaced (never modified) by "extendTo" method */
+  private volatile Snapshot snapshot;
+
+  EasterDateIndex(int firstYear){
+
+    if (firstYear < 0)
+      throw new IllegalArgumentException("Invalid first year: "+firstYear);
+
+    this.firstYear = firstYear;
+    this.snapshot = new Snapshot(firstYear, new YearSet[SLOT_COUNT]);
+
+  }
+
+  /* Creates an index for the years in [firstYear, endYear) */
+  EasterDateIndex(int firstYear, int endYear){
+    this(firstYear);
+    extendTo(endYear);
+  }
+
+  int getFirstYear(){
+    return firstYear;
+  }
+
+  /* Returns the end of the indexed range of years (exclusive) */
+  int getEndYear(){
+    return snapshot.endYear;
+  }
+
+  /*
+   * Extends the index up to the given year (exclusive). Only the chunks that were not complete are built,
+   * so extending an index costs the same as building the new years only.
+   */
+  synchronized void extendTo(int endYear){
+
+    Snapshot current = snapshot;
+
+    if (endYear <= current.endYear)
+      return;
+
+    /* validates the range, the same way as for the bulk computation of Easter dates */
+    new EasterYearRange(firstYear, endYear);
+
+    int chunkCount = chunkOf(endYear - 1) + 1;
+
+    /* the last chunk of the current snapshot may be incomplete, in which case it is built again with the new years */
+    int firstNewChunk = (current.endYear == firstYear) ? 0 : chunkOf(current.endYear - 1);
+    if (chunkStartYear(firstNewChunk + 1) <= current.endYear)
+      firstNewChunk++;
+
+    /* the sets of the dates without any year so far stay null; they are created by buildChunk() if one of the new years falls on them */
+    YearSet[] sets = new YearSet[SLOT_COUNT];
+    for (int slot = 0; slot < SLOT_COUNT; slot++)
+      if (current.sets[slot] != null)
+        sets[slot] = current.sets[slot].copyOf(chunkCount);
+
+    ForkJoinPool.commonPool().invoke(new BuildTask(sets, firstNewChunk, chunkCount, endYear));
+
+    for (YearSet set : sets)
+      if (set != null)
+        set.updateCounts();
+
+    snapshot = new Snapshot(endYear, sets);
+
+  }
+
+  /* Returns true if Easter of the given year falls on the given date of the given calendar */
+  boolean matches(int calendar, int month, int day, int year){
+    Snapshot current = snapshot;
+    YearSet set = current.sets[slotOf(calendar, month, day)];
+    return isIndexed(current, year) && (set != null) && set.contains(relativeYear(year));
+  }
+
+  /* Returns the number of years in [fromYear, toYear) whose Easter falls on the given date of the given calendar */
+  int count(int calendar, int month, int day, int fromYear, int toYear){
+    Snapshot current = snapshot;
+    return count(current, current.sets[slotOf(calendar, month, day)], fromYear, toYear);
+  }
+
+  /* Returns the first year (starting with fromYear) whose Easter falls on the given date of the given calendar, or -1 if there is none in the index */
+  int nextYear(int calendar, int month, int day, int fromYear){
+    Snapshot current = snapshot;
+    return nextYear(current, current.sets[slotOf(calendar, month, day)], fromYear);
+  }
+
+  /* Returns, in ascending order, the years in [fromYear, toYear) whose Easter falls on the given date of the given calendar */
+  IntStream years(int calendar, int month, int day, int fromYear, int toYear){
+    Snapshot current = snapshot;
+    return years(current, current.sets[slotOf(calendar, month, day)], fromYear, toYear);
+  }
+
+  /* Returns true if both Easters of the given year fall on the same Gregorian day */
+  boolean isCoincidence(int year){
+    Snapshot current = snapshot;
+    YearSet set = current.sets[COINCIDENCE_SLOT];
+    return isIndexed(current, year) && (set != null) && set.contains(relativeYear(year));
+  }
+
+  int countCoincidences(int fromYear, int toYear){
+    Snapshot current = snapshot;
+    return count(current, current.sets[COINCIDENCE_SLOT], fromYear, toYear);
+  }
+
+  int nextCoincidence(int fromYear){
+    Snapshot current = snapshot;
+    return nextYear(current, current.sets[COINCIDENCE_SLOT], fromYear);
+  }
+
+  IntStream coincidenceYears(int fromYear, int toYear){
+    Snapshot current = snapshot;
+    return years(current, current.sets[COINCIDENCE_SLOT], fromYear, toYear);
+  }
+
+  /* the set of a date without any year is null, in the following methods */
+  private int count(Snapshot current, YearSet set, int fromYear, int toYear){
+
+    int from = clamp(current, fromYear);
+    int to = clamp(current, toYear);
+
+    if ((from >= to) || (set == null))
+      return 0;
+
+    return set.countBelow(to - firstYear) - set.countBelow(from - firstYear);
+
+  }
+
+  private int nextYear(Snapshot current, YearSet set, int fromYear){
+
+    int from = clamp(current, fromYear);
+    if ((from >= current.endYear) || (set == null))
+      return -1;
+
+    int next = set.next(from - firstYear);
+    return (next < 0) ? -1 : next + firstYear;
+
+  }
+
+  private IntStream years(Snapshot current, YearSet set, int fromYear, int toYear){
+
+    int to = clamp(current, toYear);
+
+    return IntStream.iterate(nextYear(current, set, fromYear), year -> (year >= 0) && (year < to), year -> nextYear(current, set, year + 1));
+
+  }
+
+  private boolean isIndexed(Snapshot current, int year){
+    return (year >= firstYear) && (year < current.endYear);
+  }
+
+  private int clamp(Snapshot current, int year){
+    return Math.max(firstYear, Math.min(year, current.endYear));
+  }
+
+  private int relativeYear(int year){
+    return year - firstYear;
+  }
+
+  private int chunkOf(int year){
+    return (year - firstYear) >>> CHUNK_SHIFT;
+  }
+
+  private int chunkStartYear(int chunk){
+    return firstYear + (chunk << CHUNK_SHIFT);
+  }
+
+  private static int slotOf(int calendar, int month, int day){
+
+    if ((calendar < WESTERN) || (calendar > EASTERN) || (month < 1) || (month > 12) || (day < 1) || (day > 31))
+      throw new IllegalArgumentException("Invalid calendar date (calendar/month/day): "+calendar+"/"+month+"/"+day);
+
+    return calendar*SLOTS_PER_CALENDAR + (month - 1)*32 + (day - 1);
+
+  }
+
+  /* Computes the slots of all the years of a chunk and stores the years in the chunk's containers. */
+  private void buildChunk(YearSet[] sets, int chunk, int endYear){
+
+    int chunkFirstYear = chunkStartYear(chunk);
+    int yearCount = (int)Math.min(CHUNK_SIZE, (long)endYear - chunkFirstYear);
+
+    /* every year goes into one slot of each calendar, and possibly into the coincidence slot */
+    int[] yearSlots = new int[4 * yearCount];
+    int[] slotCounts = new int[SLOT_COUNT];
+    int entries = 0;
+
+    for (int position = 0; position < yearCount; position++) {
+
+      int year = chunkFirstYear + position;
+
+      int westernOffset = Computus.westernEasterOffset(year);
+      int julianOffset = Computus.julianEasterOffset(year);
+      long westernEpochDay = Computus.westernEasterEpochDay(year);
+      long easternEpochDay = Computus.easternEasterEpochDay(year);
+      long easternDate = GregorianDays.toPackedDate(easternEpochDay);
+
+      yearSlots[entries++] = slotOf(WESTERN, Computus.monthOfOffset(westernOffset), Computus.dayOfOffset(westernOffset));
+      yearSlots[entries++] = slotOf(JULIAN, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+      yearSlots[entries++] = slotOf(EASTERN, JulianDays.monthOfPacked(easternDate), JulianDays.dayOfPacked(easternDate));
+      if (westernEpochDay == easternEpochDay)
+        yearSlots[entries++] = COINCIDENCE_SLOT;
+
+    }
+
+    for (int i = 0; i < entries; i++)
+      slotCounts[yearSlots[i]]++;
+
+    /* the containers are created with their final size, then filled in ascending order of years */
+    short[][] arrays = new short[SLOT_COUNT][];
+    long[][] bitmaps = new long[SLOT_COUNT][];
+    int[] filled = new int[SLOT_COUNT];
+
+    for (int slot = 0; slot < SLOT_COUNT; slot++) {
+      if (slotCounts[slot] > MAX_ARRAY_CARDINALITY)
+        bitmaps[slot] = new long[CHUNK_SIZE / 64];
+      else if (slotCounts[slot] > 0)
+        arrays[slot] = new short[slotCounts[slot]];
+    }
+
+    int position = -1;
+    for (int i = 0; i < entries; i++) {
+
+      int slot = yearSlots[i];
+
+      /* each year starts with its WESTERN slot, so this is how the position of the year is followed */
+      if (slot < SLOTS_PER_CALENDAR)
+        position++;
+
+      if (bitmaps[slot] != null)
+        bitmaps[slot][position >>> 6] |= 1L << position;
+      else
+        arrays[slot][filled[slot]++] = (short)position;
+
+    }
+
+    for (int slot = 0; slot < SLOT_COUNT; slot++)
+      if (slotCounts[slot] > 0)
+        yearSetOf(sets, slot, endYear).setChunk(chunk, arrays[slot], bitmaps[slot], slotCounts[slot]);
+
+  }
+
+  /*
+   * Returns the year set of a slot, creating it for the first year that falls on its date.
+   * The chunks are built in parallel, so the creation is synchronized; it only happens once per date.
+   */
+  private YearSet yearSetOf(YearSet[] sets, int slot, int endYear){
+
+    synchronized (sets) {
+      if (sets[slot] == null)
+        sets[slot] = new YearSet(chunkOf(endYear - 1) + 1);
+      return sets[slot];
+    }
+
+  }
+
+  /* An immutable view of the index: the end of the indexed range and the year sets of all the slots. */
+  private static final class Snapshot {
+
+    final int endYear;
+    final YearSet[] sets;
+
+    Snapshot(int endYear, YearSet[] sets){
+      this.endYear = endYear;
+      this.sets = sets;
+    }
+
+  }
+
+  /* Fork/join task that builds the chunks in [fromChunk, toChunk), splitting the interval in halves until one chunk is left. */
+  private final class BuildTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final YearSet[] sets;
+    private final int fromChunk, toChunk, endYear;
+
+    BuildTask(YearSet[] sets, int fromChunk, int toChunk, int endYear){
+      this.sets = sets;
+      this.fromChunk = fromChunk;
+      this.toChunk = toChunk;
+      this.endYear = endYear;
+    }
+
+    @Override
+    protected void compute(){
+
+      if (toChunk - fromChunk <= 1) {
+        if (fromChunk < toChunk)
+          buildChunk(sets, fromChunk, endYear);
+      }
+      else {
+        int middleChunk = fromChunk + (toChunk - fromChunk) / 2;
+        invokeAll(new BuildTask(sets, fromChunk, middleChunk, endYear), new BuildTask(sets, middleChunk, toChunk, endYear));
+      }
+
+    }
+
+  }
+
+  /*
+   * Compressed set of years (given relative to the first year of the index).
+   * For every chunk, at most one of "arrays" and "bitmaps" holds the chunk's years; both are null for an empty chunk.
+   * yearsBefore[c] is the number of years held by the chunks before chunk c.
+   */
+  private static final class YearSet {
+
+    private short[][] arrays;
+    private long[][] bitmaps;
+    private int[] cardinalities;
+    private int[] yearsBefore;
+
+    YearSet(int chunkCount){
+      arrays = new short[chunkCount][];
+      bitmaps = new long[chunkCount][];
+      cardinalities = new int[chunkCount];
+    }
+
+    /* Returns a copy that can hold the given number of chunks; the containers themselves are shared, since they are never modified */
+    YearSet copyOf(int chunkCount){
+      YearSet copy = new YearSet(0);
+      copy.arrays = Arrays.copyOf(arrays, chunkCount);
+      copy.bitmaps = Arrays.copyOf(bitmaps, chunkCount);
+      copy.cardinalities = Arrays.copyOf(cardinalities, chunkCount);
+      return copy;
+    }
+
+    void setChunk(int chunk, short[] array, long[] bitmap, int cardinality){
+      arrays[chunk] = array;
+      bitmaps[chunk] = bitmap;
+      cardinalities[chunk] = cardinality;
+    }
+
+    void updateCounts(){
+      yearsBefore = new int[cardinalities.length + 1];
+      for (int chunk = 0; chunk < cardinalities.length; chunk++)
+        yearsBefore[chunk + 1] = yearsBefore[chunk] + cardinalities[chunk];
+    }
+
+    boolean contains(int year){
+
+      int chunk = year >>> CHUNK_SHIFT;
+      int position = year & (CHUNK_SIZE - 1);
+
+      if (bitmaps[chunk] != null)
+        return (bitmaps[chunk][position >>> 6] & (1L << position)) != 0;
+
+      return (arrays[chunk] != null) && (positionIndex(arrays[chunk], position) >= 0);
+
+    }
+
+    /* Returns the number of years of the set that are lower than the given year (which may be the end of the indexed range) */
+    int countBelow(int year){
+
+      int chunk = year >>> CHUNK_SHIFT;
+      if (chunk >= cardinalities.length)
+        return yearsBefore[cardinalities.length];
+
+      int position = year & (CHUNK_SIZE - 1);
+      int count = yearsBefore[chunk];
+
+      if (bitmaps[chunk] != null) {
+        long[] bitmap = bitmaps[chunk];
+        for (int word = 0; word < (position >>> 6); word++)
+          count += Long.bitCount(bitmap[word]);
+        count += Long.bitCount(bitmap[position >>> 6] & ((1L << position) - 1));
+      }
+      else if (arrays[chunk] != null) {
+        int index = positionIndex(arrays[chunk], position);
+        count += (index >= 0) ? index : -index - 1;
+      }
+
+      return count;
+
+    }
+
+    /* Returns the first year of the set that is greater than or equal to the given year, or -1 if there is none */
+    int next(int year){
+
+      int chunk = year >>> CHUNK_SHIFT;
+      if (chunk >= cardinalities.length)
+        return -1;
+
+      int position = firstPositionFrom(chunk, year & (CHUNK_SIZE - 1));
+      if (position >= 0)
+        return (chunk << CHUNK_SHIFT) + position;
+
+      /* the first non-empty chunk after this one is the first chunk preceded by more years than the ones up to this chunk */
+      int yearsUpToChunk = yearsBefore[chunk + 1];
+      if (yearsUpToChunk == yearsBefore[cardinalities.length])
+        return -1;
+
+      int low = chunk + 1, high = cardinalities.length - 1;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (yearsBefore[middle + 1] > yearsUpToChunk)
+          high = middle;
+        else
+          low = middle + 1;
+      }
+
+      return (low << CHUNK_SHIFT) + firstPositionFrom(low, 0);
+
+    }
+
+    /* Returns the first position of the chunk that is greater than or equal to the given one, or -1 if there is none */
+    private int firstPositionFrom(int chunk, int position){
+
+      if (bitmaps[chunk] != null) {
+
+        long[] bitmap = bitmaps[chunk];
+        int word = position >>> 6;
+        long bits = bitmap[word] & (-1L << position);
+
+        while (bits == 0) {
+          if (++word == bitmap.length)
+            return -1;
+          bits = bitmap[word];
+        }
+
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+
+      }
+
+      if (arrays[chunk] != null) {
+        short[] array = arrays[chunk];
+        int index = positionIndex(array, position);
+        if (index < 0)
+          index = -index - 1;
+        return (index < array.length) ? (array[index] & 0xFFFF) : -1;
+      }
+
+      return -1;
+
+    }
+
+    /* Binary search of a position inside a sorted array of unsigned 16 bit positions; same return convention as Arrays.binarySearch() */
+    private static int positionIndex(short[] array, int position){
+
+      int low = 0, high = array.length - 1;
+
+      while (low <= high) {
+        int middle = (low + high) >>> 1;
+        int value = array[middle] & 0xFFFF;
+        if (value < position)
+          low = middle + 1;
+        else if (value > position)
+          high = middle - 1;
+        else
+          return middle;
+      }
+
+      return -(low + 1);
+
+    }
+
+  }
+
+}
@@ -0,0 +1,346 @@
+package javafxeasterdatecalculator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * This class is a headless HTTP service that returns Easter dates as JSON, built on the JDK's own HTTP server.
+ *
+ * Endpoints:
+ *   GET  /easter?year=2024                       Easter dates of one year, as a JSON object
+ *   GET  /easter/batch?years=2024,2025,2026      Easter dates of several years, as a JSON array (in the order of the request)
+ *   POST /easter/batch                           the same, with the years in the request body, separated by commas or white space
+ *
+ * A year is validated the same way as in the user interface (at most 8 digits), and its result follows the same rules (see EasterResult):
+ *   {"year":2024,"western":"2024-03-31","julian":"2024-04-22","eastern":"2024-05-05","sameDay":false}
+ *   {"year":1000,"julian":"1000-03-31"}                                  (before 1583, only Julian Easter on Julian calendar)
+ *   {"year":20,"error":"It is estimated that Jesus was crucified ..."}   (before AD 26)
+ * Dates use the ISO format of LocalDate.toString(); the "julian" date is on Julian calendar, the others are on Gregorian calendar.
+ * An invalid year makes the whole request fail with status 400, and a POST body longer than MAX_BODY_BYTES with status 413.
+ *
+ * Each request is handled on its own virtual thread when the Java runtime supports them (Java 21 or later), otherwise on a cached thread pool.
+ * The encoded result of a year is kept in a small direct-mapped cache, so that the most requested years are not computed and encoded again.
+ *
+ * The server is started with:
+ *   java javafxeasterdatecalculator.EasterHttpServer [port] [host]
+ * By default it listens on port 8080 of all network interfaces.
+ */
+final class EasterHttpServer {
+
+  static final int DEFAULT_PORT = 8080;
+
+  /* maximum number of years of a batch request */
+  static final int MAX_BATCH_YEARS = 10000;
+
+  /* maximum size of a request body: MAX_BATCH_YEARS years of 8 digits, each followed by a separator */
+  static final int MAX_BODY_BYTES = MAX_BATCH_YEARS * 10;
+
+  private static final String SINGLE_YEAR_PATH = "/easter";
+  private static final String BATCH_PATH = "/easter/batch";
+
+  /* number of entries of the response cache; a power of two, so that the entry of a year is obtained with a mask */
+  private static final int CACHE_SIZE = 1 << 14;
+
+  private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  /* direct-mapped cache: a year can only be held by the entry (year & (CACHE_SIZE-1)), which replaces the year previously held there */
+  private final AtomicReferenceArray<CachedResult> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+  EasterHttpServer(InetSocketAddress address) throws IOException {
+
+    server = HttpServer.create(address, 0);
+    executor = newRequestExecutor();
+
+    server.setExecutor(executor);
+    /* a context receives all the paths starting with its own path, so the handlers check that the path is exactly theirs */
+    server.createContext(SINGLE_YEAR_PATH, this::handleSingleYear);
+    server.createContext(BATCH_PATH, this::handleBatch);
+
+  }
+
+  void start(){
+    server.start();
+  }
+
+  /* Stops the server, waiting at most the given number of seconds for the requests being handled */
+  void stop(int delaySeconds){
+    server.stop(delaySeconds);
+    executor.shutdown();
+  }
+
+  /* Returns the port the server listens on; useful when the server was created with port 0 (any free port) */
+  int getPort(){
+    return server.getAddress().getPort();
+  }
+
+  /*
+   * Returns an executor that starts a virtual thread for each task.
+   * The application is built for Java 17, where virtual threads do not exist, so the factory method is looked up at run time.
+   */
+  static ExecutorService newRequestExecutor(){
+
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+    catch (ReflectiveOperationException e){
+      return Executors.newCachedThreadPool();
+    }
+
+  }
+
+  private void handleSingleYear(HttpExchange exchange) throws IOException {
+
+    try {
+
+      if (!exchange.getRequestURI().getPath().equals(SINGLE_YEAR_PATH)) {
+        sendError(exchange, 404, "Not found.");
+        return;
+      }
+
+      if (!"GET".equals(exchange.getRequestMethod())) {
+        sendError(exchange, 405, "Method not allowed.");
+        return;
+      }
+
+      String yearText = getQueryParameter(exchange.getRequestURI().getRawQuery(), "year");
+
+      if ((yearText == null) || !EasterCalculations.validateValue(yearText)) {
+        sendError(exchange, 400, EasterResult.INVALID_INPUT_MESSAGE);
+        return;
+      }
+
+      send(exchange, 200, getEncodedResult(Integer.parseInt(yearText)));
+
+    }
+    finally {
+      exchange.close();
+    }
+
+  }
+
+  private void handleBatch(HttpExchange exchange) throws IOException {
+
+    try {
+
+      if (!exchange.getRequestURI().getPath().equals(BATCH_PATH)) {
+        sendError(exchange, 404, "Not found.");
+        return;
+      }
+
+      String yearsText;
+
+      if ("GET".equals(exchange.getRequestMethod()))
+        yearsText = getQueryParameter(exchange.getRequestURI().getRawQuery(), "years");
+      else if ("POST".equals(exchange.getRequestMethod())) {
+        yearsText = readBody(exchange.getRequestBody());
+        if (yearsText == null) {
+          sendError(exchange, 413, "The request body must not exceed "+MAX_BODY_BYTES+" bytes.");
+          return;
+        }
+      }
+      else {
+        sendError(exchange, 405, "Method not allowed.");
+        return;
+      }
+
+      String[] yearTexts = (yearsText == null) ? new String[0] : yearsText.trim().split("[,\\s]+");
+
+      if ((yearTexts.length == 0) || yearTexts[0].isEmpty()) {
+        sendError(exchange, 400, "No years given.");
+        return;
+      }
+
+      if (yearTexts.length > MAX_BATCH_YEARS) {
+        sendError(exchange, 400, "At most "+MAX_BATCH_YEARS+" years can be requested at once.");
+        return;
+      }
+
+      ByteArrayOutputStream response = new ByteArrayOutputStream(yearTexts.length * 96);
+      response.write('[');
+
+      for (int i = 0; i < yearTexts.length; i++) {
+
+        if (!EasterCalculations.validateValue(yearTexts[i])) {
+          sendError(exchange, 400, EasterResult.INVALID_INPUT_MESSAGE);
+          return;
+        }
+
+        if (i > 0)
+          response.write(',');
+        response.write(getEncodedResult(Integer.parseInt(yearTexts[i])));
+
+      }
+
+      response.write(']');
+      send(exchange, 200, response.toByteArray());
+
+    }
+    finally {
+      exchange.close();
+    }
+
+  }
+
+  /* Returns the JSON object of a year, from the cache if possible */
+  byte[] getEncodedResult(int year){
+
+    int index = year & (CACHE_SIZE - 1);
+    CachedResult cached = cache.get(index);
+
+    if ((cached != null) && (cached.year == year)) {
+      /* EasterResult.of() counts the results of each kind, so a result served from the cache has to be counted here */
+      if (EasterMetrics.ENABLED)
+        cached.resultCounter.increment();
+      return cached.json;
+    }
+
+    EasterResult easterResult = EasterResult.of(year);
+    byte[] json = encode(easterResult).getBytes(StandardCharsets.UTF_8);
+    cache.set(index, new CachedResult(year, json, resultCounter(easterResult)));
+    return json;
+
+  }
+
+  /* Returns the counter of EasterMetrics for the kind of a result */
+  private static LongAdder resultCounter(EasterResult easterResult){
+
+    if (easterResult.isBeforeFirstEaster())
+      return EasterMetrics.BEFORE_FIRST_EASTER_RESULTS;
+
+    if (easterResult.isJulianOnly())
+      return EasterMetrics.JULIAN_ONLY_RESULTS;
+
+    return EasterMetrics.DUAL_CALENDAR_RESULTS;
+
+  }
+
+  static String encode(EasterResult easterResult){
+
+    StringBuilder json = new StringBuilder(96);
+    json.append("{\"year\":").append(easterResult.getYear());
+
+    if (easterResult.isBeforeFirstEaster()) {
+      json.append(",\"error\":\"").append(EasterResult.NO_EASTER_MESSAGE).append(' ').append(EasterResult.FIRST_EASTER_YEAR_MESSAGE).append("\"}");
+      return json.toString();
+    }
+
+    LocalDate westernEaster = easterResult.getWesternEaster();
+    JulianDate julianEaster = easterResult.getJulianEaster();
+
+    if (westernEaster != null)
+      json.append(",\"western\":\"").append(westernEaster).append('"');
+
+    /* LocalDate cannot hold every Julian date, so the Julian date is formatted the same way as LocalDate.toString() does */
+    json.append(",\"julian\":\"");
+    appendIsoDate(json, julianEaster.getYear(), julianEaster.getMonth(), julianEaster.getDay());
+    json.append('"');
+
+    if (westernEaster != null)
+      json.append(",\"eastern\":\"").append(easterResult.getEasternEaster()).append("\",\"sameDay\":").append(easterResult.isSameDay());
+
+    return json.append('}').toString();
+
+  }
+
+  /* Appends a date in the format of LocalDate.toString(): four digit years (or '+' and more digits after year 9999), two digit months and days */
+  static void appendIsoDate(StringBuilder text, int year, int month, int day){
+
+    if (year > 9999)
+      text.append('+');
+
+    if ((year >= 0) && (year < 1000))
+      text.append(year < 10 ? "000" : (year < 100 ? "00" : "0"));
+
+    text.append(year).append(month < 10 ? "-0" : "-").append(month).append(day < 10 ? "-0" : "-").append(day);
+
+  }
+
+  /* Returns the (decoded) value of a parameter of a raw query string, or null if the parameter is missing */
+  static String getQueryParameter(String rawQuery, String name){
+
+    if (rawQuery == null)
+      return null;
+
+    for (String parameter : rawQuery.split("&")) {
+      int separator = parameter.indexOf('=');
+      if ((separator > 0) && parameter.substring(0, separator).equals(name))
+        return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+    }
+
+    return null;
+
+  }
+
+  /*
+   * Reads a request body, which is expected to be short: a batch holds at most MAX_BATCH_YEARS years of 8 digits.
+   * Returns null if the body is longer than MAX_BODY_BYTES, instead of cutting it (which could drop years, or cut a year in two).
+   */
+  private static String readBody(InputStream body) throws IOException {
+
+    byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+
+    if (bytes.length > MAX_BODY_BYTES)
+      return null;
+
+    return new String(bytes, StandardCharsets.US_ASCII);
+
+  }
+
+  private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+    send(exchange, status, ("{\"error\":\""+message+"\"}").getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+
+    exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+    exchange.sendResponseHeaders(status, body.length);
+
+    try (OutputStream output = exchange.getResponseBody()) {
+      output.write(body);
+    }
+
+  }
+
+  /* A cache entry; the year is kept with its result, since several years share the same entry of the cache */
+  private static final class CachedResult {
+
+    final int year;
+    final byte[] json;
+    final LongAdder resultCounter;
+
+    CachedResult(int year, byte[] json, LongAdder resultCounter){
+      this.year = year;
+      this.json = json;
+      this.resultCounter = resultCounter;
+    }
+
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    InetSocketAddress address = (args.length > 1) ? new InetSocketAddress(args[1], port) : new InetSocketAddress(port);
+
+    EasterHttpServer easterServer = new EasterHttpServer(address);
+    easterServer.start();
+
+    System.out.println("Easter date service listening on port "+easterServer.getPort()+".");
+
+  }
+
+}
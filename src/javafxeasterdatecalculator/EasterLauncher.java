@@ -0,0 +1,94 @@
+package javafxeasterdatecalculator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/*
+ * This class is a lightweight entry point for the application.
+ *
+ * Without arguments, it opens the window of the application (EasterDateCalculator).
+ * With arguments, it writes the result message of each argument (the same message as in the window) to the standard output,
+ * without starting JavaFX, which makes it suitable for scripts that need one or a few Easter dates:
+ *   java -cp easter-launcher.jar javafxeasterdatecalculator.EasterLauncher 2024
+ * The exit status is 1 if an argument is not a valid year, and 2 if the window cannot be opened.
+ *
+ * This class and the classes it uses (EasterCalculations, EasterResult, JulianDate, ...) do not refer to any JavaFX class,
+ * and EasterDateCalculator is only loaded through reflection, when the window is needed. So the JVM loads only a few hundred classes
+ * of its own runtime, and the startup can be made even faster with a class data sharing archive (see the "startup" folder).
+ *
+ * With "-Djavafxeasterdatecalculator.startupReport=true", the peak memory used by the process (resident set size, on Linux)
+ * is written to the standard error before exiting, so that the startup cost can be measured and tracked.
+ */
+final class EasterLauncher {
+
+  static final String STARTUP_REPORT_PROPERTY = "javafxeasterdatecalculator.startupReport";
+
+  private static final String APPLICATION_CLASS = "javafxeasterdatecalculator.EasterDateCalculator";
+
+  private EasterLauncher(){
+  }
+
+  public static void main(String[] args){
+
+    if (args.length == 0) {
+      launchApplication(args);
+      return;
+    }
+
+    StringBuilder output = new StringBuilder();
+    boolean allValid = true;
+
+    for (int i = 0; i < args.length; i++) {
+
+      if (i > 0)
+        output.append(EasterCalculations.lineSeparator);
+
+      String message = EasterCalculations.getResultMessage(args[i]);
+      output.append(message).append(EasterCalculations.lineSeparator);
+
+      if (message.equals(EasterResult.INVALID_INPUT_MESSAGE))
+        allValid = false;
+
+    }
+
+    System.out.print(output);
+    System.out.flush();
+
+    if (Boolean.getBoolean(STARTUP_REPORT_PROPERTY))
+      printStartupReport();
+
+    if (!allValid)
+      System.exit(1);
+
+  }
+
+  /* The application class is loaded through reflection, so that JavaFX is only needed (and loaded) when the window is opened */
+  private static void launchApplication(String[] args){
+
+    try {
+      Class.forName(APPLICATION_CLASS).getMethod("main", String[].class).invoke(null, (Object) args);
+    }
+    catch (ReflectiveOperationException | LinkageError e){
+      System.err.println("Cannot open the window of the application (is JavaFX available?): "+e);
+      System.err.println("Usage: java javafxeasterdatecalculator.EasterLauncher year [year ...]");
+      System.exit(2);
+    }
+
+  }
+
+  /* Writes the peak resident set size of the process, read from /proc (only available on Linux) */
+  private static void printStartupReport(){
+
+    try {
+      for (String line : Files.readAllLines(Paths.get("/proc/self/status")))
+        if (line.startsWith("VmHWM:"))
+          System.err.println("Peak RSS: "+line.substring("VmHWM:".length()).trim());
+    }
+    catch (IOException e){
+      System.err.println("Peak RSS is not available: "+e);
+    }
+
+  }
+
+}
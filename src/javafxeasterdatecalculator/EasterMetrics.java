@@ -0,0 +1,191 @@
+package javafxeasterdatecalculator;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/*
+ * This class holds the metrics of the Easter calculations, exposed through JMX (see EasterMetricsMBean):
+ *   - number of calls, total duration and latency histogram of the Western and Julian Easter methods of EasterCalculations
+ *     and of JulianDate.julianDateToGregorianDate();
+ *   - number of inputs rejected by validation, and number of results of each kind (see EasterResult).
+ *
+ * The metrics are disabled by default, and enabled by starting Java with "-Djavafxeasterdatecalculator.metrics=true".
+ * The instrumented methods only record metrics under "if (EasterMetrics.ENABLED)": since ENABLED is a static final field,
+ * the JIT compiler removes the instrumentation entirely when the metrics are disabled, so the instrumented methods cost
+ * (and allocate) exactly as much as before. When enabled, recording a call reads the clock twice and updates counters
+ * that do not allocate, and that scale with the number of threads (LongAdder).
+ *
+ * When enabled, the MBean is registered in the platform MBean server as "javafxeasterdatecalculator:type=EasterMetrics".
+ */
+final class EasterMetrics implements EasterMetricsMBean {
+
+  static final String ENABLED_PROPERTY = "javafxeasterdatecalculator.metrics";
+  static final String OBJECT_NAME = "javafxeasterdatecalculator:type=EasterMetrics";
+
+  static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+  /* number of latency buckets; the last one holds the calls that lasted 2^(LATENCY_BUCKETS-1) nanoseconds (about 4.6 minutes) or more */
+  static final int LATENCY_BUCKETS = 40;
+
+  static final Timer WESTERN_COMPUTUS = new Timer();
+  static final Timer JULIAN_COMPUTUS = new Timer();
+  static final Timer JULIAN_TO_GREGORIAN = new Timer();
+
+  static final LongAdder INVALID_INPUTS = new LongAdder();
+  static final LongAdder BEFORE_FIRST_EASTER_RESULTS = new LongAdder();
+  static final LongAdder JULIAN_ONLY_RESULTS = new LongAdder();
+  static final LongAdder DUAL_CALENDAR_RESULTS = new LongAdder();
+
+  static final EasterMetrics INSTANCE = new EasterMetrics();
+
+  static {
+    if (ENABLED)
+      register();
+  }
+
+  private EasterMetrics(){
+  }
+
+  private static void register(){
+
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+    }
+    catch (JMException e){
+      /* the metrics are still recorded, they are only not visible through JMX */
+      System.err.println("Cannot register "+OBJECT_NAME+": "+e);
+    }
+
+  }
+
+  @Override
+  public boolean isEnabled(){
+    return ENABLED;
+  }
+
+  @Override
+  public long getWesternComputusCalls(){
+    return WESTERN_COMPUTUS.calls.sum();
+  }
+
+  @Override
+  public long getWesternComputusTotalNanos(){
+    return WESTERN_COMPUTUS.totalNanos.sum();
+  }
+
+  @Override
+  public long[] getWesternComputusLatencyHistogram(){
+    return WESTERN_COMPUTUS.getHistogram();
+  }
+
+  @Override
+  public long getJulianComputusCalls(){
+    return JULIAN_COMPUTUS.calls.sum();
+  }
+
+  @Override
+  public long getJulianComputusTotalNanos(){
+    return JULIAN_COMPUTUS.totalNanos.sum();
+  }
+
+  @Override
+  public long[] getJulianComputusLatencyHistogram(){
+    return JULIAN_COMPUTUS.getHistogram();
+  }
+
+  @Override
+  public long getJulianToGregorianCalls(){
+    return JULIAN_TO_GREGORIAN.calls.sum();
+  }
+
+  @Override
+  public long getJulianToGregorianTotalNanos(){
+    return JULIAN_TO_GREGORIAN.totalNanos.sum();
+  }
+
+  @Override
+  public long[] getJulianToGregorianLatencyHistogram(){
+    return JULIAN_TO_GREGORIAN.getHistogram();
+  }
+
+  @Override
+  public long getInvalidInputs(){
+    return INVALID_INPUTS.sum();
+  }
+
+  @Override
+  public long getBeforeFirstEasterResults(){
+    return BEFORE_FIRST_EASTER_RESULTS.sum();
+  }
+
+  @Override
+  public long getJulianOnlyResults(){
+    return JULIAN_ONLY_RESULTS.sum();
+  }
+
+  @Override
+  public long getDualCalendarResults(){
+    return DUAL_CALENDAR_RESULTS.sum();
+  }
+
+  @Override
+  public void reset(){
+
+    WESTERN_COMPUTUS.reset();
+    JULIAN_COMPUTUS.reset();
+    JULIAN_TO_GREGORIAN.reset();
+
+    INVALID_INPUTS.reset();
+    BEFORE_FIRST_EASTER_RESULTS.reset();
+    JULIAN_ONLY_RESULTS.reset();
+    DUAL_CALENDAR_RESULTS.reset();
+
+  }
+
+  /* Number of calls, total duration and latency histogram of an instrumented method */
+  static final class Timer {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS];
+
+    Timer(){
+      for (int i = 0; i < LATENCY_BUCKETS; i++)
+        buckets[i] = new LongAdder();
+    }
+
+    /* Records a call which started at the given time (as returned by System.nanoTime()) and ends now */
+    void record(long startTime){
+
+      long nanos = System.nanoTime() - startTime;
+
+      calls.increment();
+      totalNanos.add(nanos);
+      buckets[Math.min(LATENCY_BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(nanos, 1)))].increment();
+
+    }
+
+    long[] getHistogram(){
+
+      long[] histogram = new long[LATENCY_BUCKETS];
+      for (int i = 0; i < LATENCY_BUCKETS; i++)
+        histogram[i] = buckets[i].sum();
+
+      return histogram;
+
+    }
+
+    void reset(){
+
+      calls.reset();
+      totalNanos.reset();
+      for (LongAdder bucket : buckets)
+        bucket.reset();
+
+    }
+
+  }
+
+}
@@ -0,0 +1,47 @@
+package javafxeasterdatecalculator;
+
+/*
+ * Management interface of EasterMetrics, through which JMX clients (such as JConsole or VisualVM) read the metrics.
+ *
+ * The latency histograms hold the number of calls whose duration (in nanoseconds) was in [2^i, 2^(i+1)), at index i
+ * (index 0 also holds the calls that lasted less than a nanosecond).
+ * JMX only accepts public management interfaces, so this interface is public, unlike the rest of the package.
+ */
+public interface EasterMetricsMBean {
+
+  boolean isEnabled();
+
+  long getWesternComputusCalls();
+
+  long getWesternComputusTotalNanos();
+
+  long[] getWesternComputusLatencyHistogram();
+
+  long getJulianComputusCalls();
+
+  long getJulianComputusTotalNanos();
+
+  long[] getJulianComputusLatencyHistogram();
+
+  long getJulianToGregorianCalls();
+
+  long getJulianToGregorianTotalNanos();
+
+  long[] getJulianToGregorianLatencyHistogram();
+
+  /* number of inputs rejected by EasterCalculations.validateValue() */
+  long getInvalidInputs();
+
+  /* number of results for years before AD 26, which have no Easter date */
+  long getBeforeFirstEasterResults();
+
+  /* number of results with only the Julian Easter date (years before 1583) */
+  long getJulianOnlyResults();
+
+  /* number of results with both Western and Eastern Easter dates (years starting with 1583) */
+  long getDualCalendarResults();
+
+  /* sets all the metrics back to zero */
+  void reset();
+
+}
@@ -0,0 +1,101 @@
+package javafxeasterdatecalculator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.collections.ObservableListBase;
+
+/*
+ * This class is the list of rows displayed by the table of Easter dates for a range of years.
+ *
+ * The range may hold many millions of years, so the rows are never stored: a TableView only asks for the rows it displays,
+ * and each row is created when it is asked for. The Easter offsets are computed in pages of consecutive years
+ * (with ComputusKernel, which computes a whole page at once), and only the most recently used pages are kept,
+ * so the memory used does not depend on the size of the range, nor on how far the user scrolls.
+ *
+ * The list never changes after it has been created; a new list is created for a new range.
+ * Like the TableView using it, it must only be used by the JavaFX Application Thread.
+ */
+final class EasterRangeList extends ObservableListBase<EasterRangeRow> {
+
+  /* number of years of a page */
+  static final int PAGE_SIZE = 1024;
+
+  /* maximum number of pages kept in memory; this is much more than a screen can display, so scrolling back and forth hits the cache */
+  static final int MAX_CACHED_PAGES = 64;
+
+  private final int startYear, endYear;
+
+  /* pages indexed by their number, in the order of their last use (least recently used first) */
+  private final LinkedHashMap<Integer, Page> pages = new LinkedHashMap<Integer, Page>(16, 0.75f, true){
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Integer, Page> eldest){
+      return size() > MAX_CACHED_PAGES;
+    }
+
+  };
+
+  /* the list holds the years in [startYear, endYear) */
+  EasterRangeList(int startYear, int endYear){
+
+    /* validates the range of years */
+    new EasterYearRange(startYear, endYear);
+
+    this.startYear = startYear;
+    this.endYear = endYear;
+
+  }
+
+  @Override
+  public EasterRangeRow get(int index){
+
+    if ((index < 0) || (index >= size()))
+      throw new IndexOutOfBoundsException("Index "+index+" is outside the list of "+size()+" years");
+
+    Page page = getPage(index / PAGE_SIZE);
+    int indexInPage = index % PAGE_SIZE;
+
+    return new EasterRangeRow(startYear + index, page.westernOffsets[indexInPage], page.julianOffsets[indexInPage]);
+
+  }
+
+  @Override
+  public int size(){
+    return endYear - startYear;
+  }
+
+  private Page getPage(int pageNumber){
+
+    Page page = pages.get(pageNumber);
+
+    if (page == null) {
+      int firstYear = startYear + pageNumber*PAGE_SIZE;
+      page = new Page(firstYear, Math.min(PAGE_SIZE, endYear - firstYear));
+      pages.put(pageNumber, page);
+    }
+
+    return page;
+
+  }
+
+  /* Easter offsets of the years of a page */
+  private static final class Page {
+
+    final byte[] westernOffsets, julianOffsets;
+
+    Page(int firstYear, int count){
+
+      westernOffsets = new byte[count];
+      julianOffsets = new byte[count];
+
+      /* a page is small enough to be computed directly by the calling thread, without the fork/join pool used by EasterYearRange */
+      ComputusKernel.getInstance().westernEasterOffsets(firstYear, count, westernOffsets, 0);
+      ComputusKernel.getInstance().julianEasterOffsets(firstYear, count, julianOffsets, 0);
+
+    }
+
+  }
+
+}
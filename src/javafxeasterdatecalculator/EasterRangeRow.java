@@ -0,0 +1,82 @@
+package javafxeasterdatecalculator;
+
+import java.time.Month;
+
+/*
+ * This class holds one row of the table of Easter dates for a range of years (see EasterRangeList).
+ *
+ * A row only holds the year and its two Easter offsets (see Computus class); the dates are formatted when a cell asks for them,
+ * without creating any LocalDate or JulianDate object. The formats and the rules are the same as for a single year:
+ *   - for years before AD 26 all the dates are empty;
+ *   - for years before 1583 only the Julian date is given.
+ */
+final class EasterRangeRow {
+
+  private final int year;
+  private final int westernOffset, julianOffset;
+
+  EasterRangeRow(int year, int westernOffset, int julianOffset){
+    this.year = year;
+    this.westernOffset = westernOffset;
+    this.julianOffset = julianOffset;
+  }
+
+  int getYear(){
+    return year;
+  }
+
+  /* Returns Western Easter on Gregorian calendar, or an empty String if the year has no such date */
+  String getWesternEaster(){
+
+    if (year < EasterResult.FIRST_GREGORIAN_YEAR)
+      return "";
+
+    return formatDate(year, Computus.monthOfOffset(westernOffset), Computus.dayOfOffset(westernOffset));
+
+  }
+
+  /* Returns Eastern Easter on Julian calendar, or an empty String if the year has no Easter */
+  String getJulianEaster(){
+
+    if (year < EasterResult.FIRST_EASTER_YEAR)
+      return "";
+
+    return formatDate(year, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+
+  }
+
+  /* Returns the Gregorian date of Eastern Easter, or an empty String if the year has no such date */
+  String getEasternEaster(){
+
+    if (year < EasterResult.FIRST_GREGORIAN_YEAR)
+      return "";
+
+    long date = GregorianDays.toPackedDate(getEasternEasterEpochDay());
+    return formatDate(JulianDays.yearOfPacked(date), JulianDays.monthOfPacked(date), JulianDays.dayOfPacked(date));
+
+  }
+
+  /* Returns true if both Easters are celebrated on the same day (only for years starting with 1583) */
+  boolean isSameDay(){
+
+    if (year < EasterResult.FIRST_GREGORIAN_YEAR)
+      return false;
+
+    return getWesternEasterEpochDay() == getEasternEasterEpochDay();
+
+  }
+
+  private long getWesternEasterEpochDay(){
+    return Computus.gregorianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + westernOffset;
+  }
+
+  private long getEasternEasterEpochDay(){
+    return Computus.julianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + julianOffset;
+  }
+
+  /* same format as EasterCalculations.getCustomFormattedDate() and JulianDate.getCustomFormattedDate() */
+  private static String formatDate(int year, int month, int day){
+    return day+" "+Month.of(month)+" "+year;
+  }
+
+}
@@ -0,0 +1,223 @@
+package javafxeasterdatecalculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * This class writes the Easter dates of years as CSV lines or JSON lines, directly as bytes into a large buffer,
+ * which is written to a channel only when it is full. No String or date object is created for a record.
+ *
+ * The records follow the same rules as EasterResult (no Easter before AD 26, only Julian Easter before 1583), and the dates are formatted
+ * like LocalDate.toString() does. The JSON objects are the same as the ones returned by EasterHttpServer:
+ *   {"year":2024,"western":"2024-03-31","julian":"2024-04-22","eastern":"2024-05-05","sameDay":false}
+ * The CSV lines have the columns of CSV_HEADER, with empty values for the dates that do not exist:
+ *   2028,2028-04-16,2028-04-03,2028-04-16,true,
+ *   1000,,1000-03-31,,,
+ * The error texts contain commas, so the error column is quoted as described by RFC 4180 (between double quotes, with embedded double quotes doubled).
+ *
+ * The dates are computed with the primitive methods of Computus and GregorianDays, which give the same dates as the methods of EasterCalculations.
+ */
+final class EasterRecordWriter implements Closeable {
+
+  static final int CSV = 0;
+  static final int JSON = 1;
+
+  static final String CSV_HEADER = "year,western,julian,eastern,sameDay,error";
+
+  /* a record is always shorter than this, so the buffer is only checked once per record */
+  private static final int MAX_RECORD_BYTES = 512;
+
+  private static final String NO_EASTER_TEXT = EasterResult.NO_EASTER_MESSAGE+" "+EasterResult.FIRST_EASTER_YEAR_MESSAGE;
+
+  private static final byte[] NO_EASTER_ERROR = NO_EASTER_TEXT.getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] INVALID_INPUT_ERROR = EasterResult.INVALID_INPUT_MESSAGE.getBytes(StandardCharsets.US_ASCII);
+
+  /* the same texts escaped for the CSV error column, where they are written between double quotes */
+  private static final byte[] NO_EASTER_CSV_ERROR = escapeCsv(NO_EASTER_TEXT).getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] INVALID_INPUT_CSV_ERROR = escapeCsv(EasterResult.INVALID_INPUT_MESSAGE).getBytes(StandardCharsets.US_ASCII);
+
+  private final WritableByteChannel channel;
+  private final int format;
+  private final ByteBuffer buffer;
+
+  private long bytesWritten;
+
+  EasterRecordWriter(WritableByteChannel channel, int format, int bufferSize){
+
+    if ((format != CSV) && (format != JSON))
+      throw new IllegalArgumentException("Unknown format: "+format);
+
+    this.channel = channel;
+    this.format = format;
+    this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, MAX_RECORD_BYTES));
+
+  }
+
+  /* Writes the header line of the CSV format; JSON lines have no header */
+  void writeHeader() throws IOException {
+
+    if (format == CSV) {
+      reserve();
+      putAscii(CSV_HEADER);
+      buffer.put((byte)'\n');
+    }
+
+  }
+
+  /* Writes the record of a year, which is expected to be in the interval accepted by the application (at most 8 digits) */
+  void writeYear(int year) throws IOException {
+
+    reserve();
+
+    if (format == JSON) {
+      putAscii("{\"year\":");
+      putNumber(year);
+    }
+    else
+      putNumber(year);
+
+    if (year < EasterResult.FIRST_EASTER_YEAR) {
+      if (format == JSON) {
+        putAscii(",\"error\":\"");
+        buffer.put(NO_EASTER_ERROR);
+        putAscii("\"}\n");
+      }
+      else {
+        putAscii(",,,,,\"");
+        buffer.put(NO_EASTER_CSV_ERROR);
+        putAscii("\"\n");
+      }
+      return;
+    }
+
+    int julianOffset = Computus.julianEasterOffset(year);
+
+    if (year < EasterResult.FIRST_GREGORIAN_YEAR) {
+      if (format == JSON) {
+        putAscii(",\"julian\":\"");
+        putDate(year, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+        putAscii("\"}\n");
+      }
+      else {
+        putAscii(",,");
+        putDate(year, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+        putAscii(",,,\n");
+      }
+      return;
+    }
+
+    int westernOffset = Computus.westernEasterOffset(year);
+    long westernEpochDay = Computus.westernEasterEpochDay(year);
+    long easternEpochDay = Computus.easternEasterEpochDay(year);
+    long easternDate = GregorianDays.toPackedDate(easternEpochDay);
+
+    putAscii(format == JSON ? ",\"western\":\"" : ",");
+    putDate(year, Computus.monthOfOffset(westernOffset), Computus.dayOfOffset(westernOffset));
+    putAscii(format == JSON ? "\",\"julian\":\"" : ",");
+    putDate(year, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+    putAscii(format == JSON ? "\",\"eastern\":\"" : ",");
+    putDate(JulianDays.yearOfPacked(easternDate), JulianDays.monthOfPacked(easternDate), JulianDays.dayOfPacked(easternDate));
+    putAscii(format == JSON ? "\",\"sameDay\":" : ",");
+    putAscii(westernEpochDay == easternEpochDay ? "true" : "false");
+    putAscii(format == JSON ? "}\n" : ",\n");
+
+  }
+
+  /* Writes the record of an input that is not a valid year; the line number of the input is given instead of the year */
+  void writeInvalidInput(long lineNumber) throws IOException {
+
+    reserve();
+
+    if (format == JSON) {
+      putAscii("{\"line\":");
+      putNumber(lineNumber);
+      putAscii(",\"error\":\"");
+      buffer.put(INVALID_INPUT_ERROR);
+      putAscii("\"}\n");
+    }
+    else {
+      putAscii(",,,,,\"");
+      buffer.put(INVALID_INPUT_CSV_ERROR);
+      putAscii(" (line ");
+      putNumber(lineNumber);
+      putAscii(")\"\n");
+    }
+
+  }
+
+  long getBytesWritten(){
+    return bytesWritten + buffer.position();
+  }
+
+  /* Writes the buffered records to the channel */
+  void flush() throws IOException {
+
+    buffer.flip();
+    while (buffer.hasRemaining())
+      bytesWritten += channel.write(buffer);
+    buffer.clear();
+
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+    channel.close();
+  }
+
+  /* Returns the given text with each double quote doubled, as required by RFC 4180 for a CSV field written between double quotes */
+  static String escapeCsv(String text){
+    return text.replace("\"", "\"\"");
+  }
+
+  private void reserve() throws IOException {
+    if (buffer.remaining() < MAX_RECORD_BYTES)
+      flush();
+  }
+
+  /* the texts written by this class are constants made of ASCII characters only, so each character is one byte */
+  private void putAscii(String text){
+    for (int i = 0; i < text.length(); i++)
+      buffer.put((byte)text.charAt(i));
+  }
+
+  /* Writes a non-negative number in decimal, without creating a String */
+  private void putNumber(long number){
+
+    long divisor = 1;
+    while (divisor <= number / 10)
+      divisor *= 10;
+
+    for (; divisor > 0; divisor /= 10)
+      buffer.put((byte)('0' + (number / divisor) % 10));
+
+  }
+
+  private void putTwoDigits(int number){
+    buffer.put((byte)('0' + number / 10));
+    buffer.put((byte)('0' + number % 10));
+  }
+
+  /* Writes a date in the format of LocalDate.toString() (for the non-negative years used by the application) */
+  private void putDate(int year, int month, int day){
+
+    if (year > 9999) {
+      buffer.put((byte)'+');
+      putNumber(year);
+    }
+    else {
+      putTwoDigits(year / 100);
+      putTwoDigits(year % 100);
+    }
+
+    buffer.put((byte)'-');
+    putTwoDigits(month);
+    buffer.put((byte)'-');
+    putTwoDigits(day);
+
+  }
+
+}
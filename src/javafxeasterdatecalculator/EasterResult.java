@@ -0,0 +1,99 @@
+package javafxeasterdatecalculator;
+
+import java.time.LocalDate;
+
+/*
+ * This class holds the Easter dates of a year, as they are displayed to the user.
+ *
+ * It applies the same rules as the user interface:
+ *   - for years before AD 26 there is no Easter date;
+ *   - for years before 1583 (when Gregorian calendar did not exist) there is only the Julian Easter, on Julian calendar;
+ *   - starting with 1583 there are both Western Easter (Gregorian date) and Eastern Easter (Julian date and its Gregorian date).
+ *
+ * It does not depend on the current date, so the same result can be shared by the user interface and by the services built on the same calculations.
+ */
+final class EasterResult {
+
+  /* the first year for which Easter is returned; see README for the reasons */
+  static final int FIRST_EASTER_YEAR = 26;
+
+  /* the first full year of Gregorian calendar, which was introduced in October 1582 */
+  static final int FIRST_GREGORIAN_YEAR = 1583;
+
+  static final String NO_EASTER_MESSAGE = "It is estimated that Jesus was crucified between AD 26 and AD 37. Before that, no Easter existed.";
+  static final String FIRST_EASTER_YEAR_MESSAGE = "This application returns results for years starting with AD 26.";
+  static final String INVALID_INPUT_MESSAGE = "Invalid input. Must contain digits representing a positive integral number.";
+
+  private final int year;
+  private final LocalDate westernEaster;
+  private final JulianDate julianEaster;
+  private final LocalDate easternEaster;
+
+  private EasterResult(int year, LocalDate westernEaster, JulianDate julianEaster, LocalDate easternEaster){
+    this.year = year;
+    this.westernEaster = westernEaster;
+    this.julianEaster = julianEaster;
+    this.easternEaster = easternEaster;
+  }
+
+  /* Computes the Easter dates of the given year, using the methods of EasterCalculations class */
+  static EasterResult of(int year){
+
+    /* the number of results of each kind is only counted when the metrics are enabled (see EasterMetrics) */
+    if (year < FIRST_EASTER_YEAR) {
+      if (EasterMetrics.ENABLED)
+        EasterMetrics.BEFORE_FIRST_EASTER_RESULTS.increment();
+      return new EasterResult(year, null, null, null);
+    }
+
+    JulianDate julianEaster = EasterCalculations.getJulianEasterOnJulianCalendar(year);
+
+    /* Gregorian calendar did not exist, so only Julian Easter is calculated */
+    if (year < FIRST_GREGORIAN_YEAR) {
+      if (EasterMetrics.ENABLED)
+        EasterMetrics.JULIAN_ONLY_RESULTS.increment();
+      return new EasterResult(year, null, julianEaster, null);
+    }
+
+    if (EasterMetrics.ENABLED)
+      EasterMetrics.DUAL_CALENDAR_RESULTS.increment();
+
+    return new EasterResult(year, EasterCalculations.getWesternEasterOnGregorianCalendar(year), julianEaster, julianEaster.julianDateToGregorianDate());
+
+  }
+
+  int getYear(){
+    return year;
+  }
+
+  /* Returns true for the years before AD 26, which have no Easter date */
+  boolean isBeforeFirstEaster(){
+    return julianEaster == null;
+  }
+
+  /* Returns true for the years before 1583, which only have a Julian Easter date */
+  boolean isJulianOnly(){
+    return (julianEaster != null) && (westernEaster == null);
+  }
+
+  /* Western Easter on Gregorian calendar; null before 1583 */
+  LocalDate getWesternEaster(){
+    return westernEaster;
+  }
+
+  /* Eastern Easter on Julian calendar (before 1583, the only Easter date); null before AD 26 */
+  JulianDate getJulianEaster(){
+    return julianEaster;
+  }
+
+  /* Eastern Easter on Gregorian calendar; null before 1583 */
+  LocalDate getEasternEaster(){
+    return easternEaster;
+  }
+
+  /* Returns true if both Easters are on the same day (according to presently used Gregorian calendar) */
+  boolean isSameDay(){
+    return (westernEaster != null) && (westernEaster.compareTo(easternEaster) == 0);
+  }
+
+}
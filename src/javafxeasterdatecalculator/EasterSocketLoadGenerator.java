@@ -0,0 +1,225 @@
+package javafxeasterdatecalculator;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/*
+ * This class measures the latency of EasterSocketServer from a client on the same computer, without any network in between.
+ *
+ * It sends requests of random years (from the whole interval accepted by the application, so that all the rules of EasterResult are used)
+ * over one connection, keeping a given number of requests in flight (pipelining), and measures the time between sending each request
+ * and receiving the whole of its response. The first requests only warm up the client and the server, and are not measured.
+ * The first result of each response is compared with the result expected for its year, to detect a server that answers the wrong request.
+ *
+ * At the end, the throughput and the latency percentiles (p50, p99, p999 and the maximum) are written to the standard output.
+ * The latencies are kept in an array allocated before sending the first request, so that measuring does not allocate any object.
+ *
+ * Usage:
+ *   java javafxeasterdatecalculator.EasterSocketLoadGenerator [--socket file] [--batch years] [--pipeline requests] [--requests count] [--warmup count]
+ * By default, 1,000,000 requests of one year are measured, one at a time, after 100,000 warm-up requests.
+ */
+final class EasterSocketLoadGenerator {
+
+  private static final int DEFAULT_REQUESTS = 1000000;
+  private static final int DEFAULT_WARMUP_REQUESTS = 100000;
+
+  /* number of random years sent over and over again */
+  private static final int YEAR_POOL_SIZE = 1 << 16;
+
+  private final SocketChannel channel;
+  private final int batchYears;
+  private final int pipelinedRequests;
+
+  private final ByteBuffer request;
+  private final ByteBuffer response;
+  private final ByteBuffer expectedResult = ByteBuffer.allocate(EasterSocketServer.RESULT_BYTES);
+
+  private final int[] years = new int[YEAR_POOL_SIZE];
+  private int nextYear;
+
+  EasterSocketLoadGenerator(SocketChannel channel, int batchYears, int pipelinedRequests){
+
+    if ((batchYears < 1) || (batchYears > EasterSocketServer.MAX_BATCH_YEARS))
+      throw new IllegalArgumentException("The batch size must be between 1 and "+EasterSocketServer.MAX_BATCH_YEARS+".");
+
+    /*
+     * The client only reads responses between two requests, so the requests in flight must fit in the input buffer of the server:
+     * otherwise the client could block on a write while the server waits for it to read its responses.
+     */
+    if ((pipelinedRequests < 1) || ((long)pipelinedRequests * requestBytes(batchYears) > EasterSocketServer.MAX_REQUEST_BYTES))
+      throw new IllegalArgumentException("The requests in flight must be at least 1 and hold at most "+EasterSocketServer.MAX_REQUEST_BYTES+" bytes.");
+
+    this.channel = channel;
+    this.batchYears = batchYears;
+    this.pipelinedRequests = pipelinedRequests;
+
+    request = ByteBuffer.allocateDirect(requestBytes(batchYears));
+    response = ByteBuffer.allocateDirect(EasterSocketServer.COUNT_BYTES + batchYears*EasterSocketServer.RESULT_BYTES);
+
+    SplittableRandom random = new SplittableRandom(1583);
+    for (int i = 0; i < years.length; i++)
+      years[i] = random.nextInt(EasterSocketServer.MAX_YEAR + 1);
+
+  }
+
+  static int requestBytes(int batchYears){
+    return EasterSocketServer.COUNT_BYTES + batchYears*EasterSocketServer.YEAR_BYTES;
+  }
+
+  /* Sends warmupRequests + latencies.length requests, and fills latencies with the latency (in nanoseconds) of the last ones */
+  void run(int warmupRequests, long[] latencies) throws IOException {
+
+    int totalRequests = warmupRequests + latencies.length;
+    long[] sendTimes = new long[pipelinedRequests];
+    int[] firstYears = new int[pipelinedRequests];
+    int sent = 0;
+
+    while (sent < Math.min(pipelinedRequests, totalRequests)) {
+      sendTimes[sent] = System.nanoTime();
+      firstYears[sent] = sendRequest();
+      sent++;
+    }
+
+    for (int received = 0; received < totalRequests; received++) {
+
+      int slot = received % pipelinedRequests;
+      receiveResponse(firstYears[slot]);
+
+      long latency = System.nanoTime() - sendTimes[slot];
+      if (received >= warmupRequests)
+        latencies[received - warmupRequests] = latency;
+
+      /* the request sent next takes the slot of the request just answered, since the responses come in the order of the requests */
+      if (sent < totalRequests) {
+        sendTimes[slot] = System.nanoTime();
+        firstYears[slot] = sendRequest();
+        sent++;
+      }
+
+    }
+
+  }
+
+  /* Sends a request of the next years of the pool, and returns its first year */
+  private int sendRequest() throws IOException {
+
+    int firstYear = years[nextYear];
+
+    request.clear();
+    request.putInt(batchYears);
+
+    for (int i = 0; i < batchYears; i++) {
+      request.putInt(years[nextYear]);
+      nextYear = (nextYear + 1) & (YEAR_POOL_SIZE - 1);
+    }
+
+    request.flip();
+    while (request.hasRemaining())
+      channel.write(request);
+
+    return firstYear;
+
+  }
+
+  private void receiveResponse(int firstYear) throws IOException {
+
+    response.clear();
+    while (response.hasRemaining())
+      if (channel.read(response) < 0)
+        throw new EOFException("The server closed the connection.");
+
+    if (response.getInt(0) != batchYears)
+      throw new IOException("Unexpected response: "+response.getInt(0)+" results instead of "+batchYears+".");
+
+    expectedResult.clear();
+    EasterSocketServer.putResult(expectedResult, firstYear);
+
+    for (int i = 0; i < 3; i++)
+      if (response.getLong(EasterSocketServer.COUNT_BYTES + i*Long.BYTES) != expectedResult.getLong(i*Long.BYTES))
+        throw new IOException("Unexpected result for year "+firstYear+".");
+
+  }
+
+  /* Returns the latency of the given quantile (nearest rank) of sorted latencies, in microseconds */
+  static double percentile(long[] sortedLatencies, double quantile){
+
+    int index = (int)Math.ceil(quantile * sortedLatencies.length) - 1;
+    return sortedLatencies[Math.max(index, 0)] / 1000d;
+
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    Path socketFile = Paths.get(System.getProperty("java.io.tmpdir"), "easter.sock");
+    int batchYears = 1, pipelinedRequests = 1, requests = DEFAULT_REQUESTS, warmupRequests = DEFAULT_WARMUP_REQUESTS;
+
+    for (int i = 0; i < args.length; i++) {
+
+      if (i + 1 == args.length) {
+        System.err.println("Missing value of "+args[i]+".");
+        System.exit(1);
+      }
+
+      switch (args[i]) {
+        case "--socket":
+          socketFile = Paths.get(args[++i]);
+          break;
+        case "--batch":
+          batchYears = Integer.parseInt(args[++i]);
+          break;
+        case "--pipeline":
+          pipelinedRequests = Integer.parseInt(args[++i]);
+          break;
+        case "--requests":
+          requests = Integer.parseInt(args[++i]);
+          break;
+        case "--warmup":
+          warmupRequests = Integer.parseInt(args[++i]);
+          break;
+        default:
+          System.err.println("Unknown option: "+args[i]);
+          System.err.println("Usage: java javafxeasterdatecalculator.EasterSocketLoadGenerator [--socket file] [--batch years] [--pipeline requests] [--requests count] [--warmup count]");
+          System.exit(1);
+      }
+
+    }
+
+    /* the percentiles need at least one measured request */
+    if ((requests < 1) || (warmupRequests < 0)) {
+      System.err.println("The number of requests must be at least 1, and the number of warm-up requests must not be negative.");
+      System.exit(1);
+    }
+
+    long[] latencies = new long[requests];
+    long elapsedNanos;
+
+    try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketFile))) {
+
+      EasterSocketLoadGenerator generator = new EasterSocketLoadGenerator(channel, batchYears, pipelinedRequests);
+
+      long startTime = System.nanoTime();
+      generator.run(warmupRequests, latencies);
+      elapsedNanos = System.nanoTime() - startTime;
+
+    }
+
+    Arrays.sort(latencies);
+
+    double seconds = elapsedNanos / 1e9;
+    long totalRequests = (long)warmupRequests + requests;
+
+    System.out.printf("%d requests of %d years (%d in flight, after %d warm-up requests): %.0f requests per second, %.0f years per second.%n",
+      requests, batchYears, pipelinedRequests, warmupRequests, totalRequests / seconds, totalRequests * batchYears / seconds);
+    System.out.printf("Latency (microseconds): p50 %.1f, p99 %.1f, p999 %.1f, max %.1f%n",
+      percentile(latencies, 0.5), percentile(latencies, 0.99), percentile(latencies, 0.999), percentile(latencies, 1));
+
+  }
+
+}
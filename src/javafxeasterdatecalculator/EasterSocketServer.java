@@ -0,0 +1,295 @@
+package javafxeasterdatecalculator;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.function.Consumer;
+
+/*
+ * This class is an Easter date service for programs running on the same computer, listening on a Unix domain socket with a binary protocol.
+ * Parsing HTTP requests and writing JSON (see EasterHttpServer) takes much longer than computing Easter dates, so this protocol only has fixed-width fields.
+ *
+ * Protocol (all the numbers are big-endian, like the default order of ByteBuffer):
+ *   request:  int count (1 to MAX_BATCH_YEARS), followed by count int years
+ *   response: int count (the same as the request), followed by count results of RESULT_BYTES bytes, in the order of the years of the request
+ * A result holds three dates packed with JulianDays.pack(), each as a long: Western Easter (Gregorian calendar), Julian Easter (Julian calendar)
+ * and Eastern Easter (Gregorian calendar). Both Easters fall on the same day when the Western and Eastern dates are equal.
+ * The rules of the application are applied (see EasterResult): the dates that do not exist for a year are NO_DATE, so years before AD 26 have no date
+ * and years before 1583 only have a Julian date. A year that the application would not accept (negative, or more than 8 digits) has INVALID_YEAR
+ * in its three dates.
+ *
+ * Requests can be pipelined: a client may send several requests without waiting for their responses, which are sent back in the same order.
+ * A request with an invalid count closes the connection, since the rest of the stream cannot be read anymore.
+ * When the client closes its side of the connection, the complete requests already received are still answered before the connection is closed.
+ *
+ * All the connections are handled by a single thread, with a non-blocking selector loop. Each connection has two direct buffers,
+ * allocated when it is accepted and reused for all its requests: the input buffer holds at least one complete request, and the output buffer
+ * holds the responses that could not be written yet. The results are computed with Computus methods and written directly into the output buffer,
+ * so answering a request does not allocate any object. While a connection has responses waiting to be written, its requests are no longer read,
+ * so a client that does not read its responses cannot make the server buffer them without limit.
+ *
+ * The server is started with:
+ *   java javafxeasterdatecalculator.EasterSocketServer [socket file]
+ * By default the socket file is "easter.sock" in the temporary directory. EasterSocketLoadGenerator measures the latency of the service.
+ */
+final class EasterSocketServer {
+
+  static final int MAX_BATCH_YEARS = 4096;
+
+  /* sizes of the fields of the protocol */
+  static final int COUNT_BYTES = Integer.BYTES;
+  static final int YEAR_BYTES = Integer.BYTES;
+  static final int RESULT_BYTES = 3 * Long.BYTES;
+
+  static final int MAX_REQUEST_BYTES = COUNT_BYTES + MAX_BATCH_YEARS*YEAR_BYTES;
+  static final int MAX_RESPONSE_BYTES = COUNT_BYTES + MAX_BATCH_YEARS*RESULT_BYTES;
+
+  /* values of the dates of a result that are not Easter dates; a packed date is never 0 or negative, since its month and day are at least 1 */
+  static final long NO_DATE = 0;
+  static final long INVALID_YEAR = -1;
+
+  /* the largest year accepted by the application (8 digits) */
+  static final int MAX_YEAR = 99999999;
+
+  /* number of the largest responses that the output buffer of a connection can hold */
+  private static final int OUTPUT_RESPONSES = 2;
+
+  private final Path socketFile;
+  private final ServerSocketChannel serverChannel;
+  private final Selector selector;
+
+  /* the handler of the selected keys is created once, instead of iterating over the set of selected keys at each selection */
+  private final Consumer<SelectionKey> keyHandler = this::handle;
+
+  private volatile boolean running = true;
+
+  EasterSocketServer(Path socketFile) throws IOException {
+
+    this.socketFile = socketFile;
+
+    /* the socket file of a server that was not stopped properly would make bind() fail */
+    Files.deleteIfExists(socketFile);
+
+    serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    serverChannel.bind(UnixDomainSocketAddress.of(socketFile));
+    serverChannel.configureBlocking(false);
+
+    selector = Selector.open();
+    serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+  }
+
+  Path getSocketFile(){
+    return socketFile;
+  }
+
+  /* Runs the selector loop in the calling thread, until stop() is called; then the connections are closed and the socket file is deleted */
+  void run() throws IOException {
+
+    try {
+      while (running)
+        selector.select(keyHandler);
+    }
+    finally {
+
+      for (SelectionKey key : selector.keys())
+        key.channel().close();
+
+      selector.close();
+      Files.deleteIfExists(socketFile);
+
+    }
+
+  }
+
+  /* Stops the selector loop; it can be called from any thread */
+  void stop(){
+    running = false;
+    selector.wakeup();
+  }
+
+  private void handle(SelectionKey key){
+
+    try {
+
+      if (key.isAcceptable())
+        accept();
+      else if (!((Connection) key.attachment()).handle(key))
+        key.channel().close();
+
+    }
+    catch (IOException e){
+      /* the client has gone away (or cannot be written to anymore), which only ends its own connection */
+      try {
+        key.channel().close();
+      }
+      catch (IOException closeException){
+        e.addSuppressed(closeException);
+      }
+    }
+
+  }
+
+  private void accept() throws IOException {
+
+    SocketChannel channel = serverChannel.accept();
+
+    if (channel == null)
+      return;
+
+    channel.configureBlocking(false);
+    channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+
+  }
+
+  /*
+   * Writes the result of a year (see the protocol above) at the position of the buffer.
+   * The same rules as EasterRecordWriter are applied, and Eastern Easter is obtained from the Julian offset, without running the Julian algorithm again.
+   */
+  static void putResult(ByteBuffer buffer, int year){
+
+    if ((year < 0) || (year > MAX_YEAR)) {
+      buffer.putLong(INVALID_YEAR).putLong(INVALID_YEAR).putLong(INVALID_YEAR);
+      return;
+    }
+
+    if (year < EasterResult.FIRST_EASTER_YEAR) {
+      buffer.putLong(NO_DATE).putLong(NO_DATE).putLong(NO_DATE);
+      return;
+    }
+
+    int julianOffset = Computus.julianEasterOffset(year);
+    long julianDate = JulianDays.pack(year, Computus.monthOfOffset(julianOffset), Computus.dayOfOffset(julianOffset));
+
+    if (year < EasterResult.FIRST_GREGORIAN_YEAR) {
+      buffer.putLong(NO_DATE).putLong(julianDate).putLong(NO_DATE);
+      return;
+    }
+
+    int westernOffset = Computus.westernEasterOffset(year);
+    long easternEpochDay = Computus.julianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + julianOffset;
+
+    buffer.putLong(JulianDays.pack(year, Computus.monthOfOffset(westernOffset), Computus.dayOfOffset(westernOffset)));
+    buffer.putLong(julianDate);
+    buffer.putLong(GregorianDays.toPackedDate(easternEpochDay));
+
+  }
+
+  /* The state of a connection: its channel and its buffers, which are kept in write mode between two events */
+  private static final class Connection {
+
+    private final SocketChannel channel;
+    private final ByteBuffer input = ByteBuffer.allocateDirect(MAX_REQUEST_BYTES);
+    private final ByteBuffer output = ByteBuffer.allocateDirect(OUTPUT_RESPONSES * MAX_RESPONSE_BYTES);
+
+    /* true once the client has closed its side of the connection; then no more request is read */
+    private boolean inputClosed;
+
+    Connection(SocketChannel channel){
+      this.channel = channel;
+    }
+
+    /* Handles the readiness of the channel; returns false when the connection has to be closed */
+    boolean handle(SelectionKey key) throws IOException {
+
+      /* a client may send its last requests and then close its side of the connection (half-close): these requests are still answered */
+      if (key.isReadable() && (channel.read(input) < 0))
+        inputClosed = true;
+
+      /* the responses are written as soon as they are computed; the requests left in the input are answered when their responses fit in the output */
+      int responses;
+      do {
+        responses = answerRequests();
+        if (responses < 0)
+          return false;
+      } while (flush() && (responses > 0));
+
+      /* when the output is empty, all the complete requests have been answered, and what is left of the input can never be completed */
+      if (inputClosed && (output.position() == 0))
+        return false;
+
+      key.interestOps((output.position() > 0) ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+      return true;
+
+    }
+
+    /* Answers the complete requests of the input whose responses fit in the output; returns their number, or -1 for an invalid request */
+    private int answerRequests(){
+
+      int responses = 0;
+      input.flip();
+
+      while (input.remaining() >= COUNT_BYTES) {
+
+        int count = input.getInt(input.position());
+
+        if ((count < 1) || (count > MAX_BATCH_YEARS))
+          return -1;
+
+        if ((input.remaining() < COUNT_BYTES + count*YEAR_BYTES) || (output.remaining() < COUNT_BYTES + count*RESULT_BYTES))
+          break;
+
+        input.getInt();
+        output.putInt(count);
+
+        for (int i = 0; i < count; i++)
+          putResult(output, input.getInt());
+
+        responses++;
+
+      }
+
+      input.compact();
+      return responses;
+
+    }
+
+    /* Writes as much of the output as the channel accepts; returns true when the whole output was written */
+    private boolean flush() throws IOException {
+
+      if (output.position() == 0)
+        return true;
+
+      output.flip();
+      channel.write(output);
+
+      boolean flushed = !output.hasRemaining();
+      output.compact();
+      return flushed;
+
+    }
+
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    Path socketFile = (args.length > 0) ? Paths.get(args[0]) : Paths.get(System.getProperty("java.io.tmpdir"), "easter.sock");
+
+    EasterSocketServer easterServer = new EasterSocketServer(socketFile);
+    Thread mainThread = Thread.currentThread();
+
+    /* on Ctrl+C, the selector loop is stopped so that the socket file is deleted */
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      easterServer.stop();
+      try {
+        mainThread.join(1000);
+      }
+      catch (InterruptedException e){
+        Thread.currentThread().interrupt();
+      }
+    }));
+
+    System.out.println("Easter date service listening on "+easterServer.getSocketFile()+".");
+    easterServer.run();
+
+  }
+
+}
@@ -0,0 +1,483 @@
+package javafxeasterdatecalculator;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.time.Month;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/*
+ * This class computes statistics about the Easter dates of a range of years [startYear, endYear):
+ *   - how often each date is Western Easter (Gregorian calendar) and Eastern Easter (Julian calendar);
+ *   - the distribution of the gap (in days) between Western Easter and Eastern Easter, whose zero gap is the share of coincident years;
+ *   - the earliest and the latest Western, Julian and Eastern Easter dates of each century.
+ *
+ * The Easter dates are computed with the primitive algorithms (see Computus and ComputusKernel), which give the same dates
+ * as the methods of EasterCalculations and the conversion of JulianDate, without creating a date object for each year.
+ * Like EasterYearRange, the statistics apply the algorithms to every year of the range (the rules of the user interface about
+ * the first Easter year and the first Gregorian year are not applied), and years must be in the [0, 999999999] interval.
+ *
+ * The algorithms are periodic (see EasterCycleCache), which is used whenever a range is long enough:
+ *   - a range holding n whole cycles holds each year of the cycle n times, so its date frequencies are n times the ones of a cycle,
+ *     and only the years left after the whole cycles are computed;
+ *   - since 5,700,000 is a multiple of 100, the Western Easter dates of a century repeat every 57,000 centuries,
+ *     and the Julian Easter dates (on Julian calendar) of a century repeat every 133 centuries (532 = 4 * 133 and 100 is a multiple of 4).
+ * The gap between the two Easters is not periodic, since the difference between the calendars grows by 3 days every 400 years.
+ * Its distribution is computed for every year, by fork/join tasks which count into their own primitive arrays, merged when the tasks join.
+ *
+ * A report for a range of years is printed with:
+ *   java javafxeasterdatecalculator.EasterStatistics startYear endYear
+ */
+final class EasterStatistics {
+
+  /* number of years below which a range is no longer split between fork/join tasks */
+  static final int BLOCK_SIZE = 1 << 16;
+
+  static final int CENTURY = 100;
+
+  /* number of centuries after which the Easter dates of a century repeat */
+  static final int GREGORIAN_CENTURY_CYCLE = EasterCycleCache.GREGORIAN_CYCLE / CENTURY;
+  static final int JULIAN_CENTURY_CYCLE = EasterCycleCache.JULIAN_CYCLE / 4;
+
+  private static final int OFFSETS = Computus.MAX_OFFSET + 1;
+
+  private EasterStatistics(){
+  }
+
+  /* Returns the number of years of the range whose Western Easter is March 22 + i days, for each i in [0, 34] */
+  static long[] westernEasterFrequencies(int startYear, int endYear){
+    return periodicFrequencies(EasterYearRange.WESTERN_OFFSET, EasterCycleCache.GREGORIAN_CYCLE, startYear, endYear);
+  }
+
+  /* Returns the number of years of the range whose Eastern Easter on Julian calendar is March 22 + i days, for each i in [0, 34] */
+  static long[] julianEasterFrequencies(int startYear, int endYear){
+    return periodicFrequencies(EasterYearRange.JULIAN_OFFSET, EasterCycleCache.JULIAN_CYCLE, startYear, endYear);
+  }
+
+  /* Returns the distribution of (Gregorian date of Eastern Easter - Western Easter) in days, over the years of the range */
+  static Distribution gapDistribution(int startYear, int endYear){
+
+    new EasterYearRange(startYear, endYear);
+
+    if (startYear == endYear)
+      return new Distribution(0, new long[0]);
+
+    return ForkJoinPool.commonPool().invoke(new GapTask(startYear, endYear));
+
+  }
+
+  /* Returns the earliest and the latest Easter dates of each century of the range (only counting the years inside the range) */
+  static CenturyExtremes centuryExtremes(int startYear, int endYear){
+
+    new EasterYearRange(startYear, endYear);
+
+    CenturyExtremes extremes = new CenturyExtremes(startYear, endYear);
+    if (startYear == endYear)
+      return extremes;
+
+    /* the extremes of whole centuries are copied from one cycle of centuries, when the range holds more than a cycle */
+    CenturyExtremes westernCycle = null, julianCycle = null;
+
+    if (extremes.size() > GREGORIAN_CENTURY_CYCLE)
+      westernCycle = computeCenturyExtremes(0, EasterCycleCache.GREGORIAN_CYCLE, null, null);
+
+    if (extremes.size() > JULIAN_CENTURY_CYCLE)
+      julianCycle = computeCenturyExtremes(0, JULIAN_CENTURY_CYCLE*CENTURY, null, null);
+
+    ForkJoinPool.commonPool().invoke(new CenturyTask(extremes, 0, extremes.size(), westernCycle, julianCycle));
+    return extremes;
+
+  }
+
+  /* Returns the difference in days between the Julian and the Gregorian calendars, for the Easter dates of the given year */
+  static int calendarDifference(int year){
+    return (int)(Computus.julianMarchFirstEpochDay(year) - Computus.gregorianMarchFirstEpochDay(year));
+  }
+
+  private static long[] periodicFrequencies(int column, int cycle, int startYear, int endYear){
+
+    new EasterYearRange(startYear, endYear);
+
+    long[] frequencies = new long[OFFSETS];
+    int wholeCycles = (endYear - startYear) / cycle;
+
+    /* any "cycle" consecutive years hold each year of the cycle once, so the years of the first cycle stand for all the whole cycles */
+    if (wholeCycles > 0) {
+      long[] cycleFrequencies = ForkJoinPool.commonPool().invoke(new FrequencyTask(column, 0, cycle));
+      for (int i = 0; i < OFFSETS; i++)
+        frequencies[i] = wholeCycles * cycleFrequencies[i];
+    }
+
+    int remainingStartYear = startYear + wholeCycles*cycle;
+    if (remainingStartYear < endYear) {
+      long[] remainingFrequencies = ForkJoinPool.commonPool().invoke(new FrequencyTask(column, remainingStartYear, endYear));
+      for (int i = 0; i < OFFSETS; i++)
+        frequencies[i] += remainingFrequencies[i];
+    }
+
+    return frequencies;
+
+  }
+
+  private static CenturyExtremes computeCenturyExtremes(int startYear, int endYear, CenturyExtremes westernCycle, CenturyExtremes julianCycle){
+    CenturyExtremes extremes = new CenturyExtremes(startYear, endYear);
+    ForkJoinPool.commonPool().invoke(new CenturyTask(extremes, 0, extremes.size(), westernCycle, julianCycle));
+    return extremes;
+  }
+
+  /* Counts how many years of [fromYear, toYear) have each Easter offset */
+  private static final class FrequencyTask extends RecursiveTask<long[]> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int column, fromYear, toYear;
+
+    FrequencyTask(int column, int fromYear, int toYear){
+      this.column = column;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+    }
+
+    @Override
+    protected long[] compute(){
+
+      if (toYear - fromYear > BLOCK_SIZE) {
+
+        int middleYear = fromYear + (toYear - fromYear) / 2;
+        FrequencyTask second = new FrequencyTask(column, middleYear, toYear);
+        second.fork();
+
+        long[] frequencies = new FrequencyTask(column, fromYear, middleYear).compute();
+        long[] secondFrequencies = second.join();
+
+        for (int i = 0; i < OFFSETS; i++)
+          frequencies[i] += secondFrequencies[i];
+
+        return frequencies;
+
+      }
+
+      byte[] offsets = new byte[toYear - fromYear];
+      EasterYearRange.computeOffsets(column, fromYear, toYear, offsets, 0);
+
+      long[] frequencies = new long[OFFSETS];
+      for (byte offset : offsets)
+        frequencies[offset]++;
+
+      return frequencies;
+
+    }
+
+  }
+
+  /* Computes the distribution of the gaps between the two Easters for the years of [fromYear, toYear) */
+  private static final class GapTask extends RecursiveTask<Distribution> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int fromYear, toYear;
+
+    GapTask(int fromYear, int toYear){
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+    }
+
+    @Override
+    protected Distribution compute(){
+
+      if (toYear - fromYear > BLOCK_SIZE) {
+
+        int middleYear = fromYear + (toYear - fromYear) / 2;
+        GapTask second = new GapTask(middleYear, toYear);
+        second.fork();
+
+        Distribution first = new GapTask(fromYear, middleYear).compute();
+        return first.merge(second.join());
+
+      }
+
+      int count = toYear - fromYear;
+      byte[] westernOffsets = new byte[count];
+      byte[] julianOffsets = new byte[count];
+      EasterYearRange.computeOffsets(EasterYearRange.WESTERN_OFFSET, fromYear, toYear, westernOffsets, 0);
+      EasterYearRange.computeOffsets(EasterYearRange.JULIAN_OFFSET, fromYear, toYear, julianOffsets, 0);
+
+      /* the calendar difference never decreases, so the gaps of the block are between these bounds */
+      int minGap = calendarDifference(fromYear) - Computus.MAX_OFFSET;
+      long[] counts = new long[calendarDifference(toYear - 1) + Computus.MAX_OFFSET - minGap + 1];
+
+      /* the calendar difference only changes at the beginning of a century */
+      int year = fromYear;
+      while (year < toYear) {
+
+        int centuryEndYear = Math.min(toYear, (year / CENTURY + 1) * CENTURY);
+        int base = calendarDifference(year) - minGap;
+
+        for (; year < centuryEndYear; year++)
+          counts[base + julianOffsets[year - fromYear] - westernOffsets[year - fromYear]]++;
+
+      }
+
+      return new Distribution(minGap, counts);
+
+    }
+
+  }
+
+  /* Computes the extremes of the centuries [fromIndex, toIndex) of the given CenturyExtremes */
+  private static final class CenturyTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /* number of centuries below which the centuries are no longer split between fork/join tasks */
+    private static final int CENTURY_BLOCK_SIZE = BLOCK_SIZE / CENTURY;
+
+    private final CenturyExtremes extremes, westernCycle, julianCycle;
+    private final int fromIndex, toIndex;
+
+    CenturyTask(CenturyExtremes extremes, int fromIndex, int toIndex, CenturyExtremes westernCycle, CenturyExtremes julianCycle){
+      this.extremes = extremes;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.westernCycle = westernCycle;
+      this.julianCycle = julianCycle;
+    }
+
+    @Override
+    protected void compute(){
+
+      if (toIndex - fromIndex > CENTURY_BLOCK_SIZE) {
+        int middleIndex = fromIndex + (toIndex - fromIndex) / 2;
+        invokeAll(new CenturyTask(extremes, fromIndex, middleIndex, westernCycle, julianCycle),
+                  new CenturyTask(extremes, middleIndex, toIndex, westernCycle, julianCycle));
+        return;
+      }
+
+      byte[] westernOffsets = new byte[CENTURY];
+      byte[] julianOffsets = new byte[CENTURY];
+
+      for (int index = fromIndex; index < toIndex; index++) {
+
+        int century = extremes.getFirstCentury() + index;
+        int fromYear = Math.max(extremes.startYear, century*CENTURY);
+        int toYear = Math.min(extremes.endYear, century*CENTURY + CENTURY);
+        boolean wholeCentury = (toYear - fromYear == CENTURY);
+
+        if (wholeCentury && (westernCycle != null)) {
+          int cycleIndex = century % GREGORIAN_CENTURY_CYCLE;
+          extremes.westernEarliest[index] = westernCycle.westernEarliest[cycleIndex];
+          extremes.westernLatest[index] = westernCycle.westernLatest[cycleIndex];
+        }
+        else {
+          EasterYearRange.computeOffsets(EasterYearRange.WESTERN_OFFSET, fromYear, toYear, westernOffsets, 0);
+          extremes.westernEarliest[index] = min(westernOffsets, toYear - fromYear);
+          extremes.westernLatest[index] = max(westernOffsets, toYear - fromYear);
+        }
+
+        if (wholeCentury && (julianCycle != null)) {
+          int cycleIndex = century % JULIAN_CENTURY_CYCLE;
+          extremes.julianEarliest[index] = julianCycle.julianEarliest[cycleIndex];
+          extremes.julianLatest[index] = julianCycle.julianLatest[cycleIndex];
+        }
+        else {
+          EasterYearRange.computeOffsets(EasterYearRange.JULIAN_OFFSET, fromYear, toYear, julianOffsets, 0);
+          extremes.julianEarliest[index] = min(julianOffsets, toYear - fromYear);
+          extremes.julianLatest[index] = max(julianOffsets, toYear - fromYear);
+        }
+
+      }
+
+    }
+
+    private static byte min(byte[] offsets, int count){
+      byte min = Byte.MAX_VALUE;
+      for (int i = 0; i < count; i++)
+        min = (byte) Math.min(min, offsets[i]);
+      return min;
+    }
+
+    private static byte max(byte[] offsets, int count){
+      byte max = Byte.MIN_VALUE;
+      for (int i = 0; i < count; i++)
+        max = (byte) Math.max(max, offsets[i]);
+      return max;
+    }
+
+  }
+
+  /* Distribution of integer values: counts[i] is the number of occurrences of the value minValue + i */
+  static final class Distribution {
+
+    private final int minValue;
+    private final long[] counts;
+
+    Distribution(int minValue, long[] counts){
+      this.minValue = minValue;
+      this.counts = counts;
+    }
+
+    int getMinValue(){
+      return minValue;
+    }
+
+    /* Returns the greatest value that may have occurrences (minValue - 1 for an empty distribution) */
+    int getMaxValue(){
+      return minValue + counts.length - 1;
+    }
+
+    long count(int value){
+      int index = value - minValue;
+      return ((index >= 0) && (index < counts.length)) ? counts[index] : 0;
+    }
+
+    long total(){
+      long total = 0;
+      for (long count : counts)
+        total += count;
+      return total;
+    }
+
+    /* Returns the distribution of both values sets, in a new distribution when the intervals of values differ */
+    Distribution merge(Distribution other){
+
+      if (other.counts.length == 0)
+        return this;
+      if (counts.length == 0)
+        return other;
+
+      int mergedMinValue = Math.min(minValue, other.minValue);
+      int mergedMaxValue = Math.max(getMaxValue(), other.getMaxValue());
+
+      Distribution merged = ((minValue == mergedMinValue) && (getMaxValue() == mergedMaxValue)) ? this
+                          : new Distribution(mergedMinValue, new long[mergedMaxValue - mergedMinValue + 1]);
+
+      if (merged != this)
+        System.arraycopy(counts, 0, merged.counts, minValue - mergedMinValue, counts.length);
+
+      for (int i = 0; i < other.counts.length; i++)
+        merged.counts[other.minValue - mergedMinValue + i] += other.counts[i];
+
+      return merged;
+
+    }
+
+  }
+
+  /*
+   * Earliest and latest Easter dates of the centuries of a range, as days after March 22 of the same year (see Computus class).
+   * Western Easter is on Gregorian calendar and Julian Easter on Julian calendar. Eastern Easter is the Gregorian date of Julian Easter,
+   * counted from the Gregorian March 22, so it moves away from March 22 as the calendars drift apart.
+   */
+  static final class CenturyExtremes {
+
+    private final int startYear, endYear;
+    private final byte[] westernEarliest, westernLatest, julianEarliest, julianLatest;
+
+    CenturyExtremes(int startYear, int endYear){
+
+      this.startYear = startYear;
+      this.endYear = endYear;
+
+      int size = (startYear == endYear) ? 0 : (endYear - 1) / CENTURY - startYear / CENTURY + 1;
+      westernEarliest = new byte[size];
+      westernLatest = new byte[size];
+      julianEarliest = new byte[size];
+      julianLatest = new byte[size];
+
+    }
+
+    /* number of centuries holding at least one year of the range */
+    int size(){
+      return westernEarliest.length;
+    }
+
+    /* the century of the first year of the range (century c holds the years [100c, 100c+99]) */
+    int getFirstCentury(){
+      return startYear / CENTURY;
+    }
+
+    int westernEarliest(int index){
+      return westernEarliest[index];
+    }
+
+    int westernLatest(int index){
+      return westernLatest[index];
+    }
+
+    int julianEarliest(int index){
+      return julianEarliest[index];
+    }
+
+    int julianLatest(int index){
+      return julianLatest[index];
+    }
+
+    /* the calendar difference is the same for all the years of a century */
+    int easternEarliest(int index){
+      return calendarDifference((getFirstCentury() + index)*CENTURY) + julianEarliest[index];
+    }
+
+    int easternLatest(int index){
+      return calendarDifference((getFirstCentury() + index)*CENTURY) + julianLatest[index];
+    }
+
+  }
+
+  /* Returns an Easter date given as days after March 22 (between 0 and 34), without the year, such as "22 MARCH" */
+  static String formatOffset(int offset){
+    return Computus.dayOfOffset(offset)+" "+Month.of(Computus.monthOfOffset(offset));
+  }
+
+  public static void main(String[] args){
+
+    if (args.length != 2) {
+      System.err.println("Usage: java javafxeasterdatecalculator.EasterStatistics startYear endYear");
+      System.exit(1);
+    }
+
+    int startYear = Integer.parseInt(args[0]);
+    int endYear = Integer.parseInt(args[1]);
+
+    PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+    long startTime = System.nanoTime();
+
+    long total = endYear - startYear;
+    out.println("Easter statistics for the years ["+startYear+", "+endYear+"): "+total+" years.");
+
+    long[] westernFrequencies = westernEasterFrequencies(startYear, endYear);
+    long[] julianFrequencies = julianEasterFrequencies(startYear, endYear);
+
+    out.println();
+    out.println("Date,Western Easter (Gregorian calendar),Eastern Easter (Julian calendar)");
+    for (int offset = 0; offset < OFFSETS; offset++)
+      out.println(formatOffset(offset)+","+westernFrequencies[offset]+","+julianFrequencies[offset]);
+
+    Distribution gaps = gapDistribution(startYear, endYear);
+
+    out.println();
+    out.printf("Both Easters on the same day: %d years (%.6f%%).%n", gaps.count(0), 100.0 * gaps.count(0) / Math.max(total, 1));
+    out.println();
+    out.println("Days from Western Easter to Eastern Easter,Years");
+    for (int gap = gaps.getMinValue(); gap <= gaps.getMaxValue(); gap++)
+      if (gaps.count(gap) != 0)
+        out.println(gap+","+gaps.count(gap));
+
+    CenturyExtremes extremes = centuryExtremes(startYear, endYear);
+
+    out.println();
+    out.println("Century,Earliest Western Easter,Latest Western Easter,Earliest Julian Easter (Julian calendar),Latest Julian Easter (Julian calendar),"
+                +"Earliest Eastern Easter (Gregorian days after March 22),Latest Eastern Easter (Gregorian days after March 22)");
+    for (int index = 0; index < extremes.size(); index++)
+      out.println((extremes.getFirstCentury() + index)+","+formatOffset(extremes.westernEarliest(index))+","+formatOffset(extremes.westernLatest(index))
+                  +","+formatOffset(extremes.julianEarliest(index))+","+formatOffset(extremes.julianLatest(index))
+                  +","+extremes.easternEarliest(index)+","+extremes.easternLatest(index));
+
+    out.flush();
+    System.err.printf("Statistics computed in %.3f s.%n", (System.nanoTime() - startTime) / 1e9);
+
+  }
+
+}
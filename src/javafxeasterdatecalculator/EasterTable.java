@@ -0,0 +1,237 @@
+package javafxeasterdatecalculator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/*
+ * This class handles files holding precomputed Easter dates for a contiguous range of years.
+ *
+ * File format (all numbers are big-endian):
+ *   offset  0: magic bytes "EASTERTB"
+ *   offset  8: format version (int), currently 1
+ *   offset 12: reserved (int), currently 0
+ *   offset 16: first year of the table (int, inclusive)
+ *   offset 20: end year of the table (int, exclusive)
+ *   offset 24: CRC-32C checksum of the entries (long)
+ *   offset 32: one entry (short) for every year of the table, in ascending order of years
+ * An entry holds both Easter dates of its year, as days after March 21:
+ *   - bits 0-5: Western Easter on Gregorian calendar (1 for March 22, ..., 35 for April 25);
+ *   - bits 6-11: Eastern Easter on Julian calendar (same encoding).
+ * The Gregorian date of Eastern Easter is not stored, since it is obtained from the Julian date with integer arithmetic only (see Computus).
+ *
+ * The file is written by "generate" method, which computes the years in parallel (see EasterYearRange).
+ * It is read by memory-mapping it: a lookup is a single read from the mapped file, without any parsing or object creation.
+ * Since the file is mapped read-only, several JVMs of the same host reading the same file share its pages through the operating system's page cache.
+ *
+ * A table file is generated with:
+ *   java javafxeasterdatecalculator.EasterTable file firstYear endYear
+ */
+final class EasterTable {
+
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 32;
+
+  private static final byte[] MAGIC = {'E', 'A', 'S', 'T', 'E', 'R', 'T', 'B'};
+
+  private static final int JULIAN_SHIFT = 6;
+  private static final int OFFSET_MASK = 0x3F;
+
+  /* a mapped buffer cannot exceed 2 GiB, so the entries are mapped in segments of 2^29 entries (1 GiB) */
+  private static final int SEGMENT_SHIFT = 29;
+  private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+  /* number of years computed and written at once by "generate" method */
+  private static final int GENERATED_BLOCK_YEARS = 1 << 22;
+
+  private final int firstYear, endYear;
+  private final long checksum;
+  private final MappedByteBuffer[] segments;
+
+  private EasterTable(int firstYear, int endYear, long checksum, MappedByteBuffer[] segments){
+    this.firstYear = firstYear;
+    this.endYear = endYear;
+    this.checksum = checksum;
+    this.segments = segments;
+  }
+
+  /*
+   * Writes a table file for the years in [firstYear, endYear).
+   * The file is first written under a temporary name and then renamed, so that readers never see a partially written table.
+   */
+  static void generate(Path file, int firstYear, int endYear) throws IOException {
+
+    /* validates the range of years */
+    new EasterYearRange(firstYear, endYear);
+
+    Path temporaryFile = file.resolveSibling(file.getFileName()+".tmp");
+    CRC32C crc = new CRC32C();
+
+    /* the generation is recorded by Flight Recorder, when a recording is running */
+    EasterBatchEvent event = new EasterBatchEvent("table");
+    event.begin();
+
+    try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+      ByteBuffer entries = ByteBuffer.allocateDirect(2 * GENERATED_BLOCK_YEARS);
+      channel.position(HEADER_SIZE);
+
+      for (int blockYear = firstYear; blockYear < endYear; blockYear += GENERATED_BLOCK_YEARS) {
+
+        EasterYearRange range = new EasterYearRange(blockYear, Math.min(blockYear + GENERATED_BLOCK_YEARS, endYear));
+        byte[] westernOffsets = range.getWesternEasterOffsets();
+        byte[] julianOffsets = range.getJulianEasterOffsets();
+
+        entries.clear();
+        for (int i = 0; i < westernOffsets.length; i++)
+          entries.putShort((short)(((julianOffsets[i] + 1) << JULIAN_SHIFT) | (westernOffsets[i] + 1)));
+        entries.flip();
+
+        crc.update(entries);
+        entries.rewind();
+
+        while (entries.hasRemaining())
+          channel.write(entries);
+
+      }
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.put(MAGIC).putInt(VERSION).putInt(0).putInt(firstYear).putInt(endYear).putLong(crc.getValue());
+      header.flip();
+
+      while (header.hasRemaining())
+        channel.write(header, header.position());
+
+      channel.force(true);
+
+    }
+
+    Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    event.years = endYear - firstYear;
+    event.bytesWritten = HEADER_SIZE + 2L*(endYear - firstYear);
+    event.commit();
+
+  }
+
+  /* Maps a table file, after checking its header and its size; the checksum is only checked by "verifyChecksum" method */
+  static EasterTable map(Path file) throws IOException {
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+      if (channel.size() < HEADER_SIZE)
+        throw new IOException("Not an Easter table file: "+file);
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      while (header.hasRemaining())
+        channel.read(header, header.position());
+      header.flip();
+
+      byte[] magic = new byte[MAGIC.length];
+      header.get(magic);
+
+      if (!Arrays.equals(magic, MAGIC))
+        throw new IOException("Not an Easter table file: "+file);
+
+      int version = header.getInt();
+      if (version != VERSION)
+        throw new IOException("Unsupported Easter table version "+version+": "+file);
+
+      header.getInt();
+      int firstYear = header.getInt();
+      int endYear = header.getInt();
+      long checksum = header.getLong();
+
+      if ((firstYear < 0) || (endYear < firstYear) || (channel.size() != HEADER_SIZE + 2L*(endYear - firstYear)))
+        throw new IOException("Corrupted Easter table header: "+file);
+
+      long entryCount = endYear - firstYear;
+      MappedByteBuffer[] segments = new MappedByteBuffer[(int)((entryCount + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+
+      for (int segment = 0; segment < segments.length; segment++) {
+        long firstEntry = (long)segment << SEGMENT_SHIFT;
+        long segmentEntries = Math.min(1L << SEGMENT_SHIFT, entryCount - firstEntry);
+        segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + 2*firstEntry, 2*segmentEntries);
+      }
+
+      /* the mapping stays valid after the channel is closed */
+      return new EasterTable(firstYear, endYear, checksum, segments);
+
+    }
+
+  }
+
+  int getFirstYear(){
+    return firstYear;
+  }
+
+  int getEndYear(){
+    return endYear;
+  }
+
+  boolean contains(int year){
+    return (year >= firstYear) && (year < endYear);
+  }
+
+  /* Returns Western Easter on Gregorian calendar, as days after March 22 (see Computus class) */
+  int westernEasterOffset(int year){
+    return (entry(year) & OFFSET_MASK) - 1;
+  }
+
+  /* Returns Eastern Easter on Julian calendar, as days after March 22 (see Computus class) */
+  int julianEasterOffset(int year){
+    return ((entry(year) >>> JULIAN_SHIFT) & OFFSET_MASK) - 1;
+  }
+
+  long westernEasterEpochDay(int year){
+    return Computus.gregorianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + westernEasterOffset(year);
+  }
+
+  long easternEasterEpochDay(int year){
+    return Computus.julianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + julianEasterOffset(year);
+  }
+
+  /* Computes the checksum of the mapped entries and compares it with the one from the header; this reads the whole table */
+  boolean verifyChecksum(){
+
+    CRC32C crc = new CRC32C();
+    for (MappedByteBuffer segment : segments)
+      crc.update(segment.duplicate());
+
+    return crc.getValue() == checksum;
+
+  }
+
+  private int entry(int year){
+
+    if (!contains(year))
+      throw new IndexOutOfBoundsException("Year "+year+" is outside the table ["+firstYear+", "+endYear+")");
+
+    int index = year - firstYear;
+    return segments[index >>> SEGMENT_SHIFT].getShort((index & SEGMENT_MASK) << 1);
+
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    if (args.length != 3) {
+      System.err.println("Usage: java javafxeasterdatecalculator.EasterTable file firstYear endYear");
+      System.exit(1);
+    }
+
+    long startTime = System.nanoTime();
+    generate(Paths.get(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+
+    System.err.printf("Easter table written in %.3f s.%n", (System.nanoTime() - startTime) / 1e9);
+
+  }
+
+}
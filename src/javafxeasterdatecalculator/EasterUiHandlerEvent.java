@@ -0,0 +1,30 @@
+package javafxeasterdatecalculator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/*
+ * Flight Recorder event for an event handler of the user interface, which runs on the JavaFX Application Thread.
+ *
+ * While a handler runs, the window cannot be redrawn, so only the handlers lasting longer than about one frame
+ * at 60 frames per second are recorded by default (the threshold can be changed in the recording settings).
+ */
+@Name("javafxeasterdatecalculator.UiHandler")
+@Label("Easter UI Handler")
+@Category("Easter Date Calculator")
+@Description("Slow event handler of the user interface")
+@Threshold("16 ms")
+final class EasterUiHandlerEvent extends Event {
+
+  @Label("Handler")
+  String handler;
+
+  EasterUiHandlerEvent(String handler){
+    this.handler = handler;
+  }
+
+}
@@ -0,0 +1,944 @@
+package javafxeasterdatecalculator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntToLongFunction;
+
+/*
+ * This class verifies the fast implementations of the Easter calculations against the reference methods, for every year of a range.
+ *
+ * The reference results of a year are the ones of the user interface: the LocalDate of getWesternEasterOnGregorianCalendar(),
+ * the JulianDate of getJulianEasterOnJulianCalendar() (both in EasterCalculations) and its conversion by JulianDate.julianDateToGregorianDate().
+ * Each check compares one fast path with one of these results, encoded as a long value (a packed date, see JulianDays.pack(), or an epoch day):
+ *   - the primitive algorithms and epoch days of Computus, and the conversions of JulianDays and GregorianDays;
+ *   - the scalar and vector kernels (see ComputusKernel), and every algorithm of ComputusAlgorithms, including the table-driven ones;
+ *   - the lookups of EasterCycleCache (with the whole Gregorian table), and optionally of an Easter table file (see EasterTable);
+ *   - the queries of EasterDateIndex, compared with the Easter dates of Computus;
+ *   - the epoch day columns of EasterYearRange and MovableFeasts, and the bulk conversions of CalendarConversions.
+ * Dates outside the years accepted by LocalDate, for which the reference conversion fails, must be outside them for the fast paths too.
+ *
+ * The Easter checks apply to the years in [0, 999999999]: the algorithms are meant for positive years, and they even give invalid dates
+ * (such as 30 February) for some negative years. The conversion of Julian dates is also checked for negative years, down to the LocalDate limit:
+ * for each year, the first and last days of the year and the days around February 29 are converted, and every day of the year
+ * is converted for the years close to the limits, where the converted dates leave the range of LocalDate.
+ *
+ * The range is verified in segments of years, each segment being split into blocks verified in parallel with the common fork/join pool.
+ * When a checkpoint file is given, the first year of the next segment is written into it after each segment, so an interrupted run
+ * continues from there when it is started again with the same arguments. The verification stops at the segment holding a mismatch,
+ * and reports the first mismatching year of the range.
+ *
+ * The whole range of years is verified with:
+ *   java javafxeasterdatecalculator.EasterVerifier --checkpoint verify.properties
+ */
+final class EasterVerifier {
+
+  /* reference columns (see Reference) */
+  static final int WESTERN_DATE = 0;
+  static final int JULIAN_DATE = 1;
+  static final int EASTERN_DATE = 2;
+  static final int WESTERN_EPOCH_DAY = 3;
+  static final int EASTERN_EPOCH_DAY = 4;
+  private static final int COLUMNS = 5;
+
+  /* value of a date or epoch day outside the years accepted by LocalDate, for which the reference methods fail */
+  static final long OUT_OF_RANGE = Long.MIN_VALUE;
+
+  static final int MIN_YEAR = JulianDate.MIN_YEAR;
+  static final int MAX_YEAR = JulianDate.MAX_YEAR;
+
+  /* every day of the year is converted for the years that are at most this far from the LocalDate limits */
+  static final int LIMIT_YEARS = 1 << 15;
+
+  /* number of years verified by one fork/join task, and number of years between two checkpoints */
+  private static final int BLOCK_SIZE = 1 << 14;
+  private static final int SEGMENT_SIZE = 1 << 24;
+
+  private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+  private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+  /* the Western and Eastern Easter columns of MovableFeasts */
+  private static final int[] EASTER_FEASTS = {MovableFeasts.EASTER, MovableFeasts.ORTHODOX_PASCHA};
+
+  private EasterVerifier(){
+  }
+
+  /*
+   * Returns all the checks available in the running JVM.
+   * The vector kernel is only checked when the Vector API is available, and the table checks are only added when a table is given.
+   */
+  static List<Check> createChecks(EasterTable table){
+
+    List<Check> checks = new ArrayList<>();
+
+    checks.add(new YearCheck("computus-western", WESTERN_DATE, 0, MAX_YEAR, year -> packOffset(year, Computus.westernEasterOffset(year))));
+    checks.add(new YearCheck("computus-julian", JULIAN_DATE, 0, MAX_YEAR, year -> packOffset(year, Computus.julianEasterOffset(year))));
+    checks.add(new YearCheck("computus-western-epoch-day", WESTERN_EPOCH_DAY, 0, MAX_YEAR, year -> bounded(Computus.westernEasterEpochDay(year))));
+    checks.add(new YearCheck("computus-eastern-epoch-day", EASTERN_EPOCH_DAY, 0, MAX_YEAR, year -> bounded(Computus.easternEasterEpochDay(year))));
+
+    checks.add(new YearCheck("julian-days-easter", EASTERN_EPOCH_DAY, 0, MAX_YEAR, year -> {
+      int offset = Computus.julianEasterOffset(year);
+      return bounded(JulianDays.toEpochDay(year, Computus.monthOfOffset(offset), Computus.dayOfOffset(offset)));
+    }));
+    checks.add(new YearCheck("gregorian-days-western", WESTERN_DATE, 0, MAX_YEAR, year -> packedGregorianDate(Computus.westernEasterEpochDay(year))));
+    checks.add(new YearCheck("gregorian-days-eastern", EASTERN_DATE, 0, MAX_YEAR, year -> packedGregorianDate(Computus.easternEasterEpochDay(year))));
+
+    checks.add(new KernelCheck("kernel-scalar-western", ComputusKernel.getScalarKernel(), false));
+    checks.add(new KernelCheck("kernel-scalar-julian", ComputusKernel.getScalarKernel(), true));
+
+    ComputusKernel vectorKernel = ComputusKernel.getVectorKernel();
+    if (vectorKernel != null) {
+      checks.add(new KernelCheck("kernel-vector-western", vectorKernel, false));
+      checks.add(new KernelCheck("kernel-vector-julian", vectorKernel, true));
+    }
+
+    for (ComputusAlgorithm algorithm : ComputusAlgorithms.getAlgorithms())
+      checks.add(new YearCheck("algorithm-"+(algorithm.isJulian() ? "julian-" : "western-")+algorithm.getName(),
+                               algorithm.isJulian() ? JULIAN_DATE : WESTERN_DATE, 0, MAX_YEAR, year -> packOffset(year, algorithm.easterOffset(year))));
+
+    EasterCycleCache cache = new EasterCycleCache(EasterCycleCache.FULL_GREGORIAN_TABLE_BYTES);
+    checks.add(new YearCheck("cycle-cache-western", WESTERN_DATE, 0, MAX_YEAR, year -> packOffset(year, cache.westernEasterOffset(year))));
+    checks.add(new YearCheck("cycle-cache-julian", JULIAN_DATE, 0, MAX_YEAR, year -> packOffset(year, cache.julianEasterOffset(year))));
+    checks.add(new YearCheck("cycle-cache-western-epoch-day", WESTERN_EPOCH_DAY, 0, MAX_YEAR, year -> bounded(cache.westernEasterEpochDay(year))));
+    checks.add(new YearCheck("cycle-cache-eastern-epoch-day", EASTERN_EPOCH_DAY, 0, MAX_YEAR, year -> bounded(cache.easternEasterEpochDay(year))));
+
+    checks.add(new DateIndexCheck("date-index"));
+
+    if (table != null) {
+
+      int firstYear = Math.max(table.getFirstYear(), 0);
+      int lastYear = table.getEndYear() - 1;
+
+      checks.add(new YearCheck("table-western", WESTERN_DATE, firstYear, lastYear, year -> packOffset(year, table.westernEasterOffset(year))));
+      checks.add(new YearCheck("table-julian", JULIAN_DATE, firstYear, lastYear, year -> packOffset(year, table.julianEasterOffset(year))));
+      checks.add(new YearCheck("table-western-epoch-day", WESTERN_EPOCH_DAY, firstYear, lastYear, year -> bounded(table.westernEasterEpochDay(year))));
+      checks.add(new YearCheck("table-eastern-epoch-day", EASTERN_EPOCH_DAY, firstYear, lastYear, year -> bounded(table.easternEasterEpochDay(year))));
+
+    }
+
+    checks.add(new YearRangeCheck("year-range-western-epoch-day", EasterYearRange.WESTERN_EPOCH_DAY, WESTERN_EPOCH_DAY));
+    checks.add(new YearRangeCheck("year-range-eastern-epoch-day", EasterYearRange.EASTERN_EPOCH_DAY, EASTERN_EPOCH_DAY));
+
+    checks.add(new FeastCheck("feasts-western-epoch-day", 0, WESTERN_EPOCH_DAY));
+    checks.add(new FeastCheck("feasts-eastern-epoch-day", 1, EASTERN_EPOCH_DAY));
+
+    checks.add(new CalendarConversionCheck("calendar-conversions-to-epoch-day", false));
+    checks.add(new CalendarConversionCheck("calendar-conversions-to-julian", true));
+
+    checks.add(new ConversionCheck("julian-days-conversion"));
+
+    return checks;
+
+  }
+
+  /*
+   * Returns the checks whose names are given (separated by commas); a name may also be the beginning of several names,
+   * up to a dash (for example "kernel" selects all the kernel checks, and "kernel-vector" only the vector ones).
+   */
+  static List<Check> selectChecks(List<Check> checks, String names){
+
+    List<Check> selected = new ArrayList<>();
+
+    for (String name : names.split(",")) {
+
+      boolean found = false;
+
+      for (Check check : checks) {
+        if ((check.name.equals(name) || check.name.startsWith(name+"-")) && !selected.contains(check)) {
+          selected.add(check);
+          found = true;
+        }
+      }
+
+      if (!found)
+        throw new IllegalArgumentException("Unknown check: "+name);
+
+    }
+
+    return selected;
+
+  }
+
+  /*
+   * Verifies the years in [fromYear, toYear) with the given checks, in parallel.
+   * Returns the mismatch of the first year (and of the first check for that year) whose fast result differs from the reference, or null.
+   */
+  static Mismatch verify(List<Check> checks, int fromYear, int toYear){
+    return ForkJoinPool.commonPool().invoke(new VerifyTask(checks, fromYear, toYear));
+  }
+
+  /* Returns the first mismatch of a block of years, computing the reference results of the block only once for all the checks */
+  private static Mismatch verifyBlock(List<Check> checks, int fromYear, int toYear){
+
+    Reference reference = null;
+    long[] values = new long[toYear - fromYear];
+    Mismatch first = null;
+
+    for (Check check : checks) {
+
+      int from = Math.max(fromYear, check.minYear);
+      int to = (int) Math.min(toYear, check.maxYear + 1L);
+
+      /* a mismatch of a later year than the first one found does not need to be searched */
+      if (first != null)
+        to = Math.min(to, first.year);
+
+      if (from >= to)
+        continue;
+
+      if ((reference == null) && check.usesReference())
+        reference = Reference.compute(fromYear, toYear);
+
+      Mismatch mismatch = check.verify(reference, from, to, values);
+      if (mismatch != null)
+        first = mismatch;
+
+    }
+
+    return first;
+
+  }
+
+  private static Mismatch earliest(Mismatch first, Mismatch second){
+
+    if (first == null)
+      return second;
+
+    if ((second == null) || (first.year <= second.year))
+      return first;
+
+    return second;
+
+  }
+
+  /* Returns the packed date (see JulianDays.pack()) of an Easter date given as days after March 22 */
+  static long packOffset(int year, int offset){
+    return JulianDays.pack(year, Computus.monthOfOffset(offset), Computus.dayOfOffset(offset));
+  }
+
+  /* Returns the epoch day, or OUT_OF_RANGE when it is outside the years accepted by LocalDate */
+  static long bounded(long epochDay){
+    return ((epochDay < MIN_EPOCH_DAY) || (epochDay > MAX_EPOCH_DAY)) ? OUT_OF_RANGE : epochDay;
+  }
+
+  /* Returns the packed Gregorian date of an epoch day, or OUT_OF_RANGE when it is outside the years accepted by LocalDate */
+  static long packedGregorianDate(long epochDay){
+    return (bounded(epochDay) == OUT_OF_RANGE) ? OUT_OF_RANGE : GregorianDays.toPackedDate(epochDay);
+  }
+
+  static String format(int column, long value){
+
+    if (value == OUT_OF_RANGE)
+      return "a date outside the years accepted by LocalDate";
+
+    if ((column == WESTERN_EPOCH_DAY) || (column == EASTERN_EPOCH_DAY))
+      return LocalDate.ofEpochDay(value)+" (epoch day "+value+")";
+
+    return JulianDays.yearOfPacked(value)+"-"+JulianDays.monthOfPacked(value)+"-"+JulianDays.dayOfPacked(value)
+           +((column == JULIAN_DATE) ? " (Julian date)" : "");
+
+  }
+
+  /* The reference results of a block of years, in columns; only the years of the Easter checks ([0, 999999999]) are computed. */
+  private static final class Reference {
+
+    final int firstYear;
+    final long[][] columns;
+
+    private Reference(int firstYear, long[][] columns){
+      this.firstYear = firstYear;
+      this.columns = columns;
+    }
+
+    static Reference compute(int fromYear, int toYear){
+
+      int firstYear = Math.max(fromYear, 0);
+      int count = Math.max(toYear - firstYear, 0);
+      long[][] columns = new long[COLUMNS][count];
+
+      for (int i = 0; i < count; i++) {
+
+        int year = firstYear + i;
+
+        LocalDate westernEaster = EasterCalculations.getWesternEasterOnGregorianCalendar(year);
+        columns[WESTERN_DATE][i] = JulianDays.pack(westernEaster.getYear(), westernEaster.getMonthValue(), westernEaster.getDayOfMonth());
+        columns[WESTERN_EPOCH_DAY][i] = westernEaster.toEpochDay();
+
+        JulianDate julianEaster = EasterCalculations.getJulianEasterOnJulianCalendar(year);
+        columns[JULIAN_DATE][i] = JulianDays.pack(julianEaster.getYear(), julianEaster.getMonth(), julianEaster.getDay());
+
+        try {
+          LocalDate easternEaster = julianEaster.julianDateToGregorianDate();
+          columns[EASTERN_DATE][i] = JulianDays.pack(easternEaster.getYear(), easternEaster.getMonthValue(), easternEaster.getDayOfMonth());
+          columns[EASTERN_EPOCH_DAY][i] = easternEaster.toEpochDay();
+        }
+        catch (DateTimeException e){
+          columns[EASTERN_DATE][i] = OUT_OF_RANGE;
+          columns[EASTERN_EPOCH_DAY][i] = OUT_OF_RANGE;
+        }
+
+      }
+
+      return new Reference(firstYear, columns);
+
+    }
+
+  }
+
+  /* A fast path verified for the years in [minYear, maxYear] */
+  abstract static class Check {
+
+    final String name;
+    final int minYear, maxYear;
+
+    Check(String name, int minYear, int maxYear){
+      this.name = name;
+      this.minYear = minYear;
+      this.maxYear = maxYear;
+    }
+
+    /* Returns true for the checks which compare their results with the reference columns; the others compute their own reference results */
+    boolean usesReference(){
+      return false;
+    }
+
+    /*
+     * Returns the first mismatch of the years in [fromYear, toYear), or null; values is a work array holding at least toYear-fromYear values.
+     * The reference is null when no check of the block uses it.
+     */
+    abstract Mismatch verify(Reference reference, int fromYear, int toYear, long[] values);
+
+  }
+
+  /* A fast path compared with one of the reference columns */
+  abstract static class ColumnCheck extends Check {
+
+    final int column;
+
+    ColumnCheck(String name, int column, int minYear, int maxYear){
+      super(name, minYear, maxYear);
+      this.column = column;
+    }
+
+    @Override
+    boolean usesReference(){
+      return true;
+    }
+
+    /* Writes the fast results of the years in [fromYear, toYear) into values, encoded like the reference column */
+    abstract void compute(int fromYear, int toYear, long[] values);
+
+    @Override
+    Mismatch verify(Reference reference, int fromYear, int toYear, long[] values){
+
+      compute(fromYear, toYear, values);
+
+      long[] expected = reference.columns[column];
+      int position = fromYear - reference.firstYear;
+
+      for (int i = 0; i < toYear - fromYear; i++) {
+        if (values[i] != expected[position + i])
+          return new Mismatch(name, fromYear + i, format(column, expected[position + i]), format(column, values[i]));
+      }
+
+      return null;
+
+    }
+
+  }
+
+  /* A fast path computing one year at a time */
+  private static final class YearCheck extends ColumnCheck {
+
+    private final IntToLongFunction function;
+
+    YearCheck(String name, int column, int minYear, int maxYear, IntToLongFunction function){
+      super(name, column, minYear, maxYear);
+      this.function = function;
+    }
+
+    @Override
+    void compute(int fromYear, int toYear, long[] values){
+      for (int year = fromYear; year < toYear; year++)
+        values[year - fromYear] = function.applyAsLong(year);
+    }
+
+  }
+
+  /* The offsets of a block of years, computed at once by a kernel */
+  private static final class KernelCheck extends ColumnCheck {
+
+    private final ComputusKernel kernel;
+    private final boolean julian;
+
+    KernelCheck(String name, ComputusKernel kernel, boolean julian){
+      super(name, julian ? JULIAN_DATE : WESTERN_DATE, 0, MAX_YEAR);
+      this.kernel = kernel;
+      this.julian = julian;
+    }
+
+    @Override
+    void compute(int fromYear, int toYear, long[] values){
+
+      byte[] offsets = new byte[toYear - fromYear];
+
+      if (julian)
+        kernel.julianEasterOffsets(fromYear, offsets.length, offsets, 0);
+      else
+        kernel.westernEasterOffsets(fromYear, offsets.length, offsets, 0);
+
+      for (int i = 0; i < offsets.length; i++)
+        values[i] = packOffset(fromYear + i, offsets[i]);
+
+    }
+
+  }
+
+  /* The epoch days of a block of years, as computed for the columns of EasterYearRange */
+  private static final class YearRangeCheck extends ColumnCheck {
+
+    private final int rangeColumn;
+
+    YearRangeCheck(String name, int rangeColumn, int column){
+      super(name, column, 0, MAX_YEAR);
+      this.rangeColumn = rangeColumn;
+    }
+
+    @Override
+    void compute(int fromYear, int toYear, long[] values){
+
+      EasterYearRange.computeEpochDays(rangeColumn, fromYear, toYear, values, 0);
+
+      for (int i = 0; i < toYear - fromYear; i++)
+        values[i] = bounded(values[i]);
+
+    }
+
+  }
+
+  /* The int epoch days of a block of years, as computed for the columns of MovableFeasts */
+  private static final class FeastCheck extends ColumnCheck {
+
+    private final int feastIndex;
+
+    FeastCheck(String name, int feastIndex, int column){
+      super(name, column, 0, MovableFeasts.MAX_COLUMN_YEAR);
+      this.feastIndex = feastIndex;
+    }
+
+    @Override
+    void compute(int fromYear, int toYear, long[] values){
+
+      int[][] columns = new int[EASTER_FEASTS.length][toYear - fromYear];
+      MovableFeasts.computeEpochDays(EASTER_FEASTS, columns, fromYear, toYear, 0);
+
+      for (int i = 0; i < toYear - fromYear; i++)
+        values[i] = columns[feastIndex][i];
+
+    }
+
+  }
+
+  /* The Julian Easter dates converted by CalendarConversions, to epoch days or (from the epoch days of Computus) back to Julian dates */
+  private static final class CalendarConversionCheck extends ColumnCheck {
+
+    private final boolean toJulian;
+
+    CalendarConversionCheck(String name, boolean toJulian){
+      super(name, toJulian ? JULIAN_DATE : EASTERN_EPOCH_DAY, 0, MAX_YEAR);
+      this.toJulian = toJulian;
+    }
+
+    @Override
+    void compute(int fromYear, int toYear, long[] values){
+
+      int count = toYear - fromYear;
+
+      if (toJulian) {
+        for (int i = 0; i < count; i++)
+          values[i] = Computus.easternEasterEpochDay(fromYear + i);
+        CalendarConversions.convert(CalendarConversions.EPOCH_DAY_TO_JULIAN, values, 0, values, 0, count);
+      }
+      else {
+        for (int i = 0; i < count; i++)
+          values[i] = packOffset(fromYear + i, Computus.julianEasterOffset(fromYear + i));
+        CalendarConversions.convert(CalendarConversions.JULIAN_TO_EPOCH_DAY, values, 0, values, 0, count);
+        for (int i = 0; i < count; i++)
+          values[i] = bounded(values[i]);
+      }
+
+    }
+
+  }
+
+  /*
+   * The queries of EasterDateIndex, compared with the Easter dates and coincidences given by Computus for each year of the block.
+   * The index of a block starts before it, so that a chunk of the index ends in the middle of the block and the counts and searches
+   * cross a chunk boundary. For each date of each calendar, the years of the block are found one after the other with nextYear(),
+   * and counted from the beginning of the block with count(); then no other year of the block may be found after the last one.
+   */
+  private static final class DateIndexCheck extends Check {
+
+    private static final String[] CALENDAR_NAMES = {"WESTERN", "JULIAN", "EASTERN"};
+
+    /* the dates of a calendar are numbered month*32 + day */
+    private static final int DATES = 13 * 32;
+
+    DateIndexCheck(String name){
+      super(name, 0, MAX_YEAR);
+    }
+
+    @Override
+    Mismatch verify(Reference reference, int fromYear, int toYear, long[] values){
+
+      EasterDateIndex index = new EasterDateIndex(Math.max(fromYear + (toYear - fromYear)/2 - EasterDateIndex.CHUNK_SIZE, 0), toYear);
+
+      /* for each calendar and date: the year from which its next year is searched, and the number of its years found in the block */
+      int[][] searchYears = new int[CALENDAR_NAMES.length][DATES];
+      int[][] counts = new int[CALENDAR_NAMES.length][DATES];
+      for (int[] calendarSearchYears : searchYears)
+        Arrays.fill(calendarSearchYears, fromYear);
+
+      int coincidenceSearchYear = fromYear, coincidences = 0;
+      long[] dates = new long[CALENDAR_NAMES.length];
+
+      for (int year = fromYear; year < toYear; year++) {
+
+        long westernEpochDay = Computus.westernEasterEpochDay(year);
+        long easternEpochDay = Computus.easternEasterEpochDay(year);
+
+        dates[EasterDateIndex.WESTERN] = GregorianDays.toPackedDate(westernEpochDay);
+        dates[EasterDateIndex.JULIAN] = packOffset(year, Computus.julianEasterOffset(year));
+        dates[EasterDateIndex.EASTERN] = GregorianDays.toPackedDate(easternEpochDay);
+
+        for (int calendar = 0; calendar < CALENDAR_NAMES.length; calendar++) {
+
+          int month = JulianDays.monthOfPacked(dates[calendar]), day = JulianDays.dayOfPacked(dates[calendar]);
+          int date = month*32 + day;
+          String query = "("+CALENDAR_NAMES[calendar]+", "+month+", "+day+", ";
+
+          if (!index.matches(calendar, month, day, year))
+            return mismatch(year, "matches"+query+year+")", "true", "false");
+
+          int nextYear = index.nextYear(calendar, month, day, searchYears[calendar][date]);
+          if (nextYear != year)
+            return mismatch(year, "nextYear"+query+searchYears[calendar][date]+")", year, nextYear);
+
+          int count = index.count(calendar, month, day, fromYear, year + 1);
+          if (count != ++counts[calendar][date])
+            return mismatch(year, "count"+query+fromYear+", "+(year + 1)+")", counts[calendar][date], count);
+
+          searchYears[calendar][date] = year + 1;
+
+        }
+
+        boolean coincidence = (westernEpochDay == easternEpochDay);
+
+        if (index.isCoincidence(year) != coincidence)
+          return mismatch(year, "isCoincidence("+year+")", String.valueOf(coincidence), String.valueOf(!coincidence));
+
+        if (coincidence) {
+
+          int nextCoincidence = index.nextCoincidence(coincidenceSearchYear);
+          if (nextCoincidence != year)
+            return mismatch(year, "nextCoincidence("+coincidenceSearchYear+")", year, nextCoincidence);
+
+          int count = index.countCoincidences(fromYear, year + 1);
+          if (count != ++coincidences)
+            return mismatch(year, "countCoincidences("+fromYear+", "+(year + 1)+")", coincidences, count);
+
+          coincidenceSearchYear = year + 1;
+
+        }
+
+      }
+
+      /* a year found after the last year of a date is a year of the block indexed on a wrong date */
+      for (int calendar = 0; calendar < CALENDAR_NAMES.length; calendar++) {
+        for (int month = 1; month <= 12; month++) {
+          for (int day = 1; day <= 31; day++) {
+            int searchYear = searchYears[calendar][month*32 + day];
+            int nextYear = index.nextYear(calendar, month, day, searchYear);
+            if (nextYear >= 0)
+              return mismatch(nextYear, "nextYear("+CALENDAR_NAMES[calendar]+", "+month+", "+day+", "+searchYear+")", -1, nextYear);
+          }
+        }
+      }
+
+      int nextCoincidence = index.nextCoincidence(coincidenceSearchYear);
+      if (nextCoincidence >= 0)
+        return mismatch(nextCoincidence, "nextCoincidence("+coincidenceSearchYear+")", -1, nextCoincidence);
+
+      return null;
+
+    }
+
+    private Mismatch mismatch(int year, String query, int expected, int actual){
+      return mismatch(year, query, String.valueOf(expected), String.valueOf(actual));
+    }
+
+    private Mismatch mismatch(int year, String query, String expected, String actual){
+      return new Mismatch(name, year, query+" = "+expected, query+" = "+actual);
+    }
+
+  }
+
+  /*
+   * The conversion of Julian dates by JulianDays, compared with JulianDate.julianDateToGregorianDate() for all the years accepted by LocalDate,
+   * and the conversion of the epoch day back to the same Julian date. It does not use the reference columns, since several dates are converted for each year.
+   */
+  private static final class ConversionCheck extends Check {
+
+    ConversionCheck(String name){
+      super(name, MIN_YEAR, MAX_YEAR);
+    }
+
+    @Override
+    Mismatch verify(Reference reference, int fromYear, int toYear, long[] values){
+
+      for (int year = fromYear; year < toYear; year++) {
+
+        Mismatch mismatch;
+
+        if ((year < MIN_YEAR + LIMIT_YEARS) || (year > MAX_YEAR - LIMIT_YEARS))
+          mismatch = verifyYear(year);
+        else
+          mismatch = verifyLeapDays(year);
+
+        if (mismatch != null)
+          return mismatch;
+
+      }
+
+      return null;
+
+    }
+
+    /* Converts every day of the year */
+    private Mismatch verifyYear(int year){
+
+      for (int month = 1; month <= 12; month++) {
+
+        int monthLength = JulianDate.getMonthLength(year, month);
+
+        for (int day = 1; day <= monthLength; day++) {
+          Mismatch mismatch = verifyDate(year, month, day);
+          if (mismatch != null)
+            return mismatch;
+        }
+
+      }
+
+      return null;
+
+    }
+
+    /* Converts the days where the Julian and Gregorian leap years make a difference, and the first and last days of the year */
+    private Mismatch verifyLeapDays(int year){
+
+      Mismatch mismatch = verifyDate(year, 1, 1);
+
+      if (mismatch == null)
+        mismatch = verifyDate(year, 2, 28);
+      if ((mismatch == null) && (JulianDate.getMonthLength(year, 2) == 29))
+        mismatch = verifyDate(year, 2, 29);
+      if (mismatch == null)
+        mismatch = verifyDate(year, 3, 1);
+      if (mismatch == null)
+        mismatch = verifyDate(year, 12, 31);
+
+      return mismatch;
+
+    }
+
+    private Mismatch verifyDate(int year, int month, int day){
+
+      long expected;
+      try {
+        expected = new JulianDate(year, month, day).julianDateToGregorianDate().toEpochDay();
+      }
+      catch (DateTimeException e){
+        expected = OUT_OF_RANGE;
+      }
+
+      long epochDay = JulianDays.toEpochDay(year, month, day);
+      long actual = bounded(epochDay);
+      String date = "Julian date "+year+"-"+month+"-"+day+": ";
+
+      if (actual != expected)
+        return new Mismatch(name, year, date+format(EASTERN_EPOCH_DAY, expected), date+format(EASTERN_EPOCH_DAY, actual));
+
+      /* the conversion back to Julian calendar must give the same date again */
+      long packedDate = JulianDays.pack(year, month, day);
+      long convertedBack = JulianDays.fromEpochDay(epochDay);
+
+      if (convertedBack != packedDate)
+        return new Mismatch(name, year, date+"converted back to "+format(JULIAN_DATE, packedDate), date+"converted back to "+format(JULIAN_DATE, convertedBack));
+
+      return null;
+
+    }
+
+  }
+
+  /* The first difference found between a fast path and the reference */
+  static final class Mismatch {
+
+    final String check;
+    final int year;
+    final String expected, actual;
+
+    Mismatch(String check, int year, String expected, String actual){
+      this.check = check;
+      this.year = year;
+      this.expected = expected;
+      this.actual = actual;
+    }
+
+    @Override
+    public String toString(){
+      return "Mismatch of "+check+" for year "+year+": expected "+expected+", found "+actual;
+    }
+
+  }
+
+  /* Fork/join task which splits the range of years in halves, and keeps the earliest mismatch of both halves */
+  private static final class VerifyTask extends RecursiveTask<Mismatch> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Check> checks;
+    private final int fromYear, toYear;
+
+    VerifyTask(List<Check> checks, int fromYear, int toYear){
+      this.checks = checks;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+    }
+
+    @Override
+    protected Mismatch compute(){
+
+      if (toYear - fromYear <= BLOCK_SIZE)
+        return verifyBlock(checks, fromYear, toYear);
+
+      int middleYear = (int) (((long) fromYear + toYear) / 2);
+      VerifyTask second = new VerifyTask(checks, middleYear, toYear);
+      second.fork();
+      Mismatch first = new VerifyTask(checks, fromYear, middleYear).compute();
+
+      return earliest(first, second.join());
+
+    }
+
+  }
+
+  /*
+   * The progress of a verification, saved into a checkpoint file after each segment of years.
+   * The table file is described by its absolute path and its size (empty when no table is verified), so that a verification
+   * is not resumed with another table under the same check names.
+   */
+  private static final class Checkpoint {
+
+    final int startYear, endYear;
+    final String checks;
+    final String table;
+    int nextYear;
+    long elapsedNanos;
+
+    Checkpoint(int startYear, int endYear, String checks, String table){
+      this.startYear = startYear;
+      this.endYear = endYear;
+      this.checks = checks;
+      this.table = table;
+      this.nextYear = startYear;
+    }
+
+    static String describeTable(Path tableFile) throws IOException {
+      return (tableFile == null) ? "" : tableFile.toAbsolutePath().normalize()+" ("+Files.size(tableFile)+" bytes)";
+    }
+
+    /* Returns true when the checkpoint was saved by the same verification: the same years, checks and table */
+    boolean isSameVerification(Checkpoint other){
+      return (startYear == other.startYear) && (endYear == other.endYear) && checks.equals(other.checks) && table.equals(other.table);
+    }
+
+    /* Returns the checkpoint saved in the file, or null if the file does not exist */
+    static Checkpoint load(Path file) throws IOException {
+
+      if (!Files.exists(file))
+        return null;
+
+      Properties properties = new Properties();
+      try (InputStream in = Files.newInputStream(file)) {
+        properties.load(in);
+      }
+
+      try {
+        Checkpoint checkpoint = new Checkpoint(Integer.parseInt(properties.getProperty("startYear")), Integer.parseInt(properties.getProperty("endYear")),
+                                               properties.getProperty("checks"), properties.getProperty("table", ""));
+        checkpoint.nextYear = Integer.parseInt(properties.getProperty("nextYear"));
+        checkpoint.elapsedNanos = Long.parseLong(properties.getProperty("elapsedNanos"));
+        return checkpoint;
+      }
+      catch (NumberFormatException e){
+        throw new IOException("Invalid checkpoint file: "+file, e);
+      }
+
+    }
+
+    /* The file is first written under a temporary name and then renamed, so an interruption never leaves a partially written checkpoint */
+    void save(Path file) throws IOException {
+
+      Properties properties = new Properties();
+      properties.setProperty("startYear", Integer.toString(startYear));
+      properties.setProperty("endYear", Integer.toString(endYear));
+      properties.setProperty("checks", checks);
+      properties.setProperty("table", table);
+      properties.setProperty("nextYear", Integer.toString(nextYear));
+      properties.setProperty("elapsedNanos", Long.toString(elapsedNanos));
+
+      Path temporaryFile = file.resolveSibling(file.getFileName()+".tmp");
+      try (OutputStream out = Files.newOutputStream(temporaryFile)) {
+        properties.store(out, "EasterVerifier checkpoint");
+      }
+
+      Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+    }
+
+  }
+
+  private static String names(List<Check> checks){
+
+    StringBuilder names = new StringBuilder();
+    for (Check check : checks)
+      names.append((names.length() == 0) ? "" : ",").append(check.name);
+
+    return names.toString();
+
+  }
+
+  private static void usage(){
+    System.err.println("Usage: java javafxeasterdatecalculator.EasterVerifier [--checkpoint file] [--table file] [--checks name,...] [startYear endYear]");
+    System.exit(2);
+  }
+
+  public static void main(String[] args) throws IOException {
+
+    Path checkpointFile = null;
+    Path tableFile = null;
+    String checkNames = null;
+    int startYear = MIN_YEAR;
+    int endYear = MAX_YEAR + 1;
+
+    int argument = 0;
+    for (; (argument + 1 < args.length) && args[argument].startsWith("--"); argument += 2) {
+
+      if (args[argument].equals("--checkpoint"))
+        checkpointFile = Paths.get(args[argument + 1]);
+      else if (args[argument].equals("--table"))
+        tableFile = Paths.get(args[argument + 1]);
+      else if (args[argument].equals("--checks"))
+        checkNames = args[argument + 1];
+      else
+        usage();
+
+    }
+
+    if (args.length - argument == 2) {
+      startYear = Integer.parseInt(args[argument]);
+      endYear = Integer.parseInt(args[argument + 1]);
+    }
+    else if (args.length != argument)
+      usage();
+
+    if ((startYear < MIN_YEAR) || (endYear < startYear) || (endYear > MAX_YEAR + 1)) {
+      System.err.println("Invalid year range: ["+startYear+", "+endYear+")");
+      System.exit(2);
+    }
+
+    List<Check> checks = createChecks((tableFile != null) ? EasterTable.map(tableFile) : null);
+    if (checkNames != null)
+      checks = selectChecks(checks, checkNames);
+
+    Checkpoint checkpoint = new Checkpoint(startYear, endYear, names(checks), Checkpoint.describeTable(tableFile));
+
+    if (checkpointFile != null) {
+
+      Checkpoint saved = Checkpoint.load(checkpointFile);
+
+      if (saved != null) {
+
+        if (!saved.isSameVerification(checkpoint)) {
+          System.err.println("The checkpoint file "+checkpointFile+" belongs to another verification: ["+saved.startYear+", "+saved.endYear+") with "+saved.checks
+                             +(saved.table.isEmpty() ? "" : ", table "+saved.table));
+          System.exit(2);
+        }
+
+        checkpoint = saved;
+        System.out.println("Resuming from year "+checkpoint.nextYear+".");
+
+      }
+
+    }
+
+    System.out.println("Verifying the years ["+startYear+", "+endYear+") with "+checks.size()+" checks, on "
+                       +ForkJoinPool.getCommonPoolParallelism()+" threads: "+checkpoint.checks);
+
+    if (ComputusKernel.getVectorKernel() == null)
+      System.out.println("The vector kernel is not checked, since it is not available: the Vector API module or the classes of src-vector are missing (see ComputusKernel).");
+
+    long startTime = System.nanoTime();
+    long firstYear = checkpoint.nextYear;
+    Mismatch mismatch = null;
+
+    while ((checkpoint.nextYear < endYear) && (mismatch == null)) {
+
+      long segmentStart = System.nanoTime();
+      int segmentEnd = (int) Math.min((long) checkpoint.nextYear + SEGMENT_SIZE, endYear);
+
+      mismatch = verify(checks, checkpoint.nextYear, segmentEnd);
+      checkpoint.elapsedNanos += System.nanoTime() - segmentStart;
+
+      if (mismatch == null) {
+
+        checkpoint.nextYear = segmentEnd;
+
+        if (checkpointFile != null)
+          checkpoint.save(checkpointFile);
+
+        System.err.printf("Verified up to year %d (%.1f%%).%n", segmentEnd, 100.0 * ((long) segmentEnd - startYear) / Math.max((long) endYear - startYear, 1));
+
+      }
+
+    }
+
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    long years = checkpoint.nextYear - firstYear;
+
+    System.out.printf("%d years verified in %.3f s: %.0f years per second (%.1f s in total, including the previous runs).%n",
+                      years, seconds, years / Math.max(seconds, 1e-9), checkpoint.elapsedNanos / 1e9);
+
+    if (mismatch != null) {
+      System.out.println(mismatch);
+      System.exit(1);
+    }
+
+    System.out.println("No mismatch found.");
+
+  }
+
+}
@@ -0,0 +1,328 @@
+package javafxeasterdatecalculator;
+
+import java.time.Year;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/*
+ * This class computes Easter dates for a range of consecutive years [startYear, endYear), without any JavaFX or date objects.
+ *
+ * The results are written into primitive arrays, using the formats from Computus class:
+ *   - Western Easter (Gregorian calendar) and Eastern Easter (Julian calendar) as days after March 22, held in bytes;
+ *   - Western Easter and Eastern Easter as Gregorian epoch days, held in longs.
+ * Large ranges are split into blocks of years, which are computed in parallel using the common fork/join pool.
+ * The offsets of a block are computed by ComputusKernel, which uses the Vector API when it is available.
+ *
+ * The same values can also be consumed as primitive streams, backed by splittable spliterators, so that a consumer
+ * can process the results of a huge range without holding them in memory.
+ *
+ * Years must be in the [0, 999999999] interval (the non-negative years accepted by LocalDate), since this is where
+ * the algorithms are used by the application and where the results match the per-year methods of EasterCalculations class.
+ */
+final class EasterYearRange {
+
+  static final int WESTERN_OFFSET = 0;
+  static final int JULIAN_OFFSET = 1;
+  static final int WESTERN_EPOCH_DAY = 2;
+  static final int EASTERN_EPOCH_DAY = 3;
+
+  /* number of years below which a block is no longer split into smaller blocks */
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  private final int startYear, endYear;
+
+  /* the range starts with startYear (inclusive) and ends with endYear (exclusive) */
+  EasterYearRange(int startYear, int endYear){
+
+    if ((startYear < 0) || (endYear < startYear) || (endYear > Year.MAX_VALUE + 1))
+      throw new IllegalArgumentException("Invalid year range: ["+startYear+", "+endYear+")");
+
+    this.startYear = startYear;
+    this.endYear = endYear;
+
+  }
+
+  int getStartYear(){
+    return this.startYear;
+  }
+
+  int getEndYear(){
+    return this.endYear;
+  }
+
+  int size(){
+    return this.endYear - this.startYear;
+  }
+
+  byte[] getWesternEasterOffsets(){
+    byte[] offsets = new byte[size()];
+    fillWesternEasterOffsets(offsets, 0);
+    return offsets;
+  }
+
+  byte[] getJulianEasterOffsets(){
+    byte[] offsets = new byte[size()];
+    fillJulianEasterOffsets(offsets, 0);
+    return offsets;
+  }
+
+  long[] getWesternEasterEpochDays(){
+    long[] epochDays = new long[size()];
+    fillWesternEasterEpochDays(epochDays, 0);
+    return epochDays;
+  }
+
+  long[] getEasternEasterEpochDays(){
+    long[] epochDays = new long[size()];
+    fillEasternEasterEpochDays(epochDays, 0);
+    return epochDays;
+  }
+
+  /* The fill methods write the result for startYear at the given position of the destination array, and the other years after it. */
+
+  void fillWesternEasterOffsets(byte[] destination, int position){
+    checkDestination(destination.length, position);
+    ForkJoinPool.commonPool().invoke(new FillTask(WESTERN_OFFSET, startYear, endYear, destination, null, position));
+  }
+
+  void fillJulianEasterOffsets(byte[] destination, int position){
+    checkDestination(destination.length, position);
+    ForkJoinPool.commonPool().invoke(new FillTask(JULIAN_OFFSET, startYear, endYear, destination, null, position));
+  }
+
+  void fillWesternEasterEpochDays(long[] destination, int position){
+    checkDestination(destination.length, position);
+    ForkJoinPool.commonPool().invoke(new FillTask(WESTERN_EPOCH_DAY, startYear, endYear, null, destination, position));
+  }
+
+  void fillEasternEasterEpochDays(long[] destination, int position){
+    checkDestination(destination.length, position);
+    ForkJoinPool.commonPool().invoke(new FillTask(EASTERN_EPOCH_DAY, startYear, endYear, null, destination, position));
+  }
+
+  /* The stream methods return sequential streams, which can be turned into parallel streams by the consumer. */
+
+  IntStream westernEasterOffsetStream(){
+    return StreamSupport.intStream(new OffsetSpliterator(WESTERN_OFFSET, startYear, endYear), false);
+  }
+
+  IntStream julianEasterOffsetStream(){
+    return StreamSupport.intStream(new OffsetSpliterator(JULIAN_OFFSET, startYear, endYear), false);
+  }
+
+  LongStream westernEasterEpochDayStream(){
+    return StreamSupport.longStream(new EpochDaySpliterator(WESTERN_EPOCH_DAY, startYear, endYear), false);
+  }
+
+  LongStream easternEasterEpochDayStream(){
+    return StreamSupport.longStream(new EpochDaySpliterator(EASTERN_EPOCH_DAY, startYear, endYear), false);
+  }
+
+  private void checkDestination(int length, int position){
+    if ((position < 0) || (position > length - size()))
+      throw new IndexOutOfBoundsException("Destination cannot hold "+size()+" years starting at position "+position);
+  }
+
+  /* Computes one of the offset columns for the years in [fromYear, toYear), starting at the given position of the destination array. */
+  static void computeOffsets(int column, int fromYear, int toYear, byte[] destination, int position){
+
+    /* the offsets are computed by the kernel chosen for the running JVM, which may compute several years at once */
+    if (column == WESTERN_OFFSET)
+      ComputusKernel.getInstance().westernEasterOffsets(fromYear, toYear - fromYear, destination, position);
+    else
+      ComputusKernel.getInstance().julianEasterOffsets(fromYear, toYear - fromYear, destination, position);
+
+  }
+
+  /* Computes one of the epoch day columns for the years in [fromYear, toYear), starting at the given position of the destination array. */
+  static void computeEpochDays(int column, int fromYear, int toYear, long[] destination, int position){
+
+    if (column == WESTERN_EPOCH_DAY) {
+      for (int year = fromYear; year < toYear; year++)
+        destination[position++] = Computus.westernEasterEpochDay(year);
+    }
+    else {
+      for (int year = fromYear; year < toYear; year++)
+        destination[position++] = Computus.easternEasterEpochDay(year);
+    }
+
+  }
+
+  /* Fork/join task which splits the range of years in halves, until the blocks are small enough to be computed directly. */
+  private static final class FillTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int column, fromYear, toYear, position;
+    private final byte[] offsets;
+    private final long[] epochDays;
+
+    FillTask(int column, int fromYear, int toYear, byte[] offsets, long[] epochDays, int position){
+      this.column = column;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+      this.offsets = offsets;
+      this.epochDays = epochDays;
+      this.position = position;
+    }
+
+    @Override
+    protected void compute(){
+
+      if (toYear - fromYear <= BLOCK_SIZE) {
+        if (offsets != null)
+          computeOffsets(column, fromYear, toYear, offsets, position);
+        else
+          computeEpochDays(column, fromYear, toYear, epochDays, position);
+      }
+      else {
+        int middleYear = fromYear + (toYear - fromYear) / 2;
+        invokeAll(new FillTask(column, fromYear, middleYear, offsets, epochDays, position),
+                  new FillTask(column, middleYear, toYear, offsets, epochDays, position + (middleYear - fromYear)));
+      }
+
+    }
+
+  }
+
+  /* Spliterator over the offsets of a range of years; each value is computed only when it is consumed. */
+  private static final class OffsetSpliterator implements Spliterator.OfInt {
+
+    private final int column;
+    private int fromYear;
+    private final int toYear;
+
+    OffsetSpliterator(int column, int fromYear, int toYear){
+      this.column = column;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action){
+
+      if (fromYear >= toYear)
+        return false;
+
+      int year = fromYear++;
+      action.accept(column == WESTERN_OFFSET ? Computus.westernEasterOffset(year) : Computus.julianEasterOffset(year));
+      return true;
+
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action){
+
+      int year = fromYear;
+      fromYear = toYear;
+
+      if (column == WESTERN_OFFSET) {
+        for (; year < toYear; year++)
+          action.accept(Computus.westernEasterOffset(year));
+      }
+      else {
+        for (; year < toYear; year++)
+          action.accept(Computus.julianEasterOffset(year));
+      }
+
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit(){
+
+      if (toYear - fromYear <= BLOCK_SIZE)
+        return null;
+
+      int middleYear = fromYear + (toYear - fromYear) / 2;
+      Spliterator.OfInt prefix = new OffsetSpliterator(column, fromYear, middleYear);
+      fromYear = middleYear;
+      return prefix;
+
+    }
+
+    @Override
+    public long estimateSize(){
+      return toYear - fromYear;
+    }
+
+    @Override
+    public int characteristics(){
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+  }
+
+  /* Spliterator over the epoch days of a range of years; each value is computed only when it is consumed. */
+  private static final class EpochDaySpliterator implements Spliterator.OfLong {
+
+    private final int column;
+    private int fromYear;
+    private final int toYear;
+
+    EpochDaySpliterator(int column, int fromYear, int toYear){
+      this.column = column;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action){
+
+      if (fromYear >= toYear)
+        return false;
+
+      int year = fromYear++;
+      action.accept(column == WESTERN_EPOCH_DAY ? Computus.westernEasterEpochDay(year) : Computus.easternEasterEpochDay(year));
+      return true;
+
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action){
+
+      int year = fromYear;
+      fromYear = toYear;
+
+      if (column == WESTERN_EPOCH_DAY) {
+        for (; year < toYear; year++)
+          action.accept(Computus.westernEasterEpochDay(year));
+      }
+      else {
+        for (; year < toYear; year++)
+          action.accept(Computus.easternEasterEpochDay(year));
+      }
+
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit(){
+
+      if (toYear - fromYear <= BLOCK_SIZE)
+        return null;
+
+      int middleYear = fromYear + (toYear - fromYear) / 2;
+      Spliterator.OfLong prefix = new EpochDaySpliterator(column, fromYear, middleYear);
+      fromYear = middleYear;
+      return prefix;
+
+    }
+
+    @Override
+    public long estimateSize(){
+      return toYear - fromYear;
+    }
+
+    @Override
+    public int characteristics(){
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+
+  }
+
+}
@@ -0,0 +1,48 @@
+package javafxeasterdatecalculator;
+
+/*
+ * This class converts Gregorian epoch days (number of days since 1 January 1970, as used by LocalDate.toEpochDay()) to Gregorian dates,
+ * using integer arithmetic only.
+ *
+ * It is the primitive equivalent of LocalDate.ofEpochDay(), for code that handles many dates and does not need LocalDate objects.
+ * The date is returned packed into a long value, with the same bit layout as JulianDays.pack(), so it can be unpacked with
+ * JulianDays.yearOfPacked(), JulianDays.monthOfPacked() and JulianDays.dayOfPacked().
+ *
+ * Unlike LocalDate, it also works for epoch days outside the years accepted by LocalDate (as long as the year fits an int),
+ * which may be needed for Eastern Easter dates of years close to the LocalDate limits.
+ */
+final class GregorianDays {
+
+  /* number of days in a 400 years Gregorian cycle */
+  private static final int DAYS_PER_CYCLE = 146097;
+
+  /* number of days from 1 March of year 0 to 1 January 1970 */
+  private static final long DAYS_0000_TO_1970 = 719468;
+
+  private GregorianDays(){
+  }
+
+  /*
+   * Returns the Gregorian date of the given epoch day, packed as described above.
+   *
+   * The days are counted in 400 years cycles, and inside a cycle the year is counted from March 1, so that the leap day is the last day of the year.
+   */
+  static long toPackedDate(long epochDay){
+
+    long shiftedDay = epochDay + DAYS_0000_TO_1970;
+    long cycle = Math.floorDiv(shiftedDay, DAYS_PER_CYCLE);
+    int dayOfCycle = (int)(shiftedDay - cycle*DAYS_PER_CYCLE);
+
+    int yearOfCycle = (dayOfCycle - dayOfCycle/1460 + dayOfCycle/36524 - dayOfCycle/146096) / 365;
+    int dayOfMarchYear = dayOfCycle - (365*yearOfCycle + yearOfCycle/4 - yearOfCycle/100);
+    int monthsAfterMarch = (5*dayOfMarchYear + 2) / 153;
+
+    int day = dayOfMarchYear - (153*monthsAfterMarch + 2)/5 + 1;
+    int month = (monthsAfterMarch < 10) ? monthsAfterMarch + 3 : monthsAfterMarch - 9;
+    int year = (int)(cycle*400) + yearOfCycle + ((month <= 2) ? 1 : 0);
+
+    return JulianDays.pack(year, month, day);
+
+  }
+
+}
@@ -2,6 +2,7 @@ package javafxeasterdatecalculator;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.Year;
 
 /* 
  * This class represents a date according to Julian calendar.
@@ -13,10 +14,10 @@ import java.time.Month;
  * 
  * This class holds dates the same way as predefined LocalDate Java class does, except that it also allows a few February 29 dates that LocalDate does not permit.
  * 
- * To validate Julian dates (except the extra February 29 dates) we get help from LocalDate type.
+ * Julian dates are validated with the same rules as LocalDate (except for the extra February 29 dates).
  * Except for the extra February 29 dates, if a date is not a valid LocalDate, it is also not a valid Julian date.
  * 
- * Using LocalDate to validate our JulianDate values means our JulianDate will be very similar to LocalDate.
+ * Validating our JulianDate values like LocalDate means our JulianDate will be very similar to LocalDate.
  * That means it uses astronomical year numbering and the year is limited to [-999999999,999999999] interval.
  * 
  * Historically, we jumped from year 1 BC to year 1 AD without passing through zero.
@@ -28,41 +29,24 @@ import java.time.Month;
  */
 class JulianDate{
 
+  /* results of validate() */
+  static final int VALID = 0;
+  static final int INVALID_YEAR = 1;
+  static final int INVALID_MONTH = 2;
+  static final int INVALID_DAY = 3;
+
+  /* the same year limits as LocalDate */
+  static final int MIN_YEAR = Year.MIN_VALUE;
+  static final int MAX_YEAR = Year.MAX_VALUE;
+
   private int year, month, day;
 
   /* The constructor for JulianDate receives the arguments in the same order as they are used for Java predefined LocalDate class, to avoid order confusion */
   public JulianDate(int year, int month, int day){
 
-    /*
-     * We use LocalDate (which is a Gregorian date type) as helper class, to validate our Julian date.
-     * Otherwise, explicit logic should have been written to validate that the days, months and years given as constructor arguments form a valid date.
-     * Since some dates of February 29 only exist in the Julian calendar, they had to be dealt with separately.
-     * 
-     * LocalDate constructor automatically validates the received arguments and throws an exception if they do not form a valid date.
-     * We create a (Gregorian) LocalDate with the same arguments as our JulianDate (except for February 29 dates that exist only in Julian calendar).
-     * If LocalDate creation fails, it means that our JulianDate is also invalid.
-     * The only reason we create LocalDate is to validate our JulianDate. 
-     */
-    try{
-
-      if ((year%100 == 0)&(year%400!=0)&(month==2)&(day==29)) {
-        /*
-         * It means that this is a leap year in Julian calendar, but not in Gregorian calendar and the given Julian date is February 29.
-         * Creating a (Gregorian) LocalDate for February 29 will cause an exception. We do not want that, since this is actually a valid Julian date.
-         * So we don't create a LocalDate with these values. We already know that February 29 is valid for this Julian year. 
-         * But we don't know if the year respects the interval of values for a LocalDate type and this is the reason 
-         * why we are still creating a LocalDate here: to validate the year.
-         */
-        LocalDate.of(year, month, 28); /* in this case, using 29 for the LocalDate day number will cause a runtime exception */
-      }
-      else {
-        /* we try to validate the date with the originally given values */
-        LocalDate.of(year, month, day);
-      }
-    }
-    catch (Exception e){
+    /* an exception is only created for invalid dates; validate() or tryOf() can be used to check a date without any exception */
+    if (validate(year, month, day) != VALID)
       throw new RuntimeException("Invalid Julian date (y/m/d): "+year+"/"+month+"/"+day);
-    }
 
     this.year = year;
     this.month = month;
@@ -70,6 +54,83 @@ class JulianDate{
 
   }
 
+  /* This constructor does not validate its arguments; it is only used through trusted() */
+  private JulianDate(int year, int month, int day, boolean trusted){
+    this.year = year;
+    this.month = month;
+    this.day = day;
+  }
+
+  /*
+   * This method validates a Julian date without creating any object or exception, and returns VALID, or the first field found to be invalid.
+   *
+   * The rules are the same that LocalDate applies to Gregorian dates, except for the leap years:
+   *   - the year has to be in the [-999999999,999999999] interval, like for LocalDate;
+   *   - the month has to be in the [1,12] interval;
+   *   - the day has to be between 1 and the length of the month, where February has 29 days in every year divisible by 4.
+   * Since astronomical year numbering is used, this rule also holds for BC years (for example, -1000 is divisible by 4, so 1001 BC is a leap year).
+   */
+  static int validate(int year, int month, int day){
+
+    if ((year < MIN_YEAR) || (year > MAX_YEAR))
+      return INVALID_YEAR;
+
+    if ((month < 1) || (month > 12))
+      return INVALID_MONTH;
+
+    if ((day < 1) || (day > getMonthLength(year, month)))
+      return INVALID_DAY;
+
+    return VALID;
+
+  }
+
+  static boolean isValid(int year, int month, int day){
+    return validate(year, month, day) == VALID;
+  }
+
+  /* This method returns the number of days of a month of the Julian calendar */
+  static int getMonthLength(int year, int month){
+
+    switch (month) {
+      case 2:
+        return (year % 4 == 0) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+
+  }
+
+  /* This method returns the Julian date with the given fields, or null if they do not form a valid Julian date (no exception is thrown) */
+  static JulianDate tryOf(int year, int month, int day){
+    return isValid(year, month, day) ? new JulianDate(year, month, day, true) : null;
+  }
+
+  /*
+   * This method returns the Julian date with the given fields, without validating them.
+   * It is only meant for dates that are known to be valid, such as the Easter dates returned by the computus
+   * (always in March or April, for a year that has already been validated), so that they skip validation entirely.
+   */
+  static JulianDate trusted(int year, int month, int day){
+    return new JulianDate(year, month, day, true);
+  }
+
+  /*
+   * This method converts a Gregorian date to the Julian date of the same day; it is the inverse of julianDateToGregorianDate().
+   * Columns of many dates are converted faster by CalendarConversions, without creating any object.
+   */
+  static JulianDate ofGregorianDate(LocalDate date){
+
+    long packedDate = JulianDays.fromEpochDay(date.toEpochDay());
+    return new JulianDate(JulianDays.yearOfPacked(packedDate), JulianDays.monthOfPacked(packedDate), JulianDays.dayOfPacked(packedDate));
+
+  }
+
   /* We don't write setter methods, since that would open the possibility of obtaining invalid dates. */
 
   public int getYear(){
@@ -119,11 +180,14 @@ class JulianDate{
    */
   public LocalDate julianDateToGregorianDate(){
 
+    /* the duration of the conversion is only measured when the metrics are enabled (see EasterMetrics) */
+    long startTime = EasterMetrics.ENABLED ? System.nanoTime() : 0;
+
     int offset = getSecularDifference();
     int newDay = this.day; /* the day may suffer a correction and we do not want to corrupt 'day' instance field */
 
     /* if year is leap in the Julian calendar, but not in the Gregorian calendar, corrections have to be made */
-    if ((this.year%100 == 0)&(this.year%400!=0)) {
+    if ((this.year%100 == 0)&&(this.year%400!=0)) {
 
       /* 
        * For Julian dates before February 29 (inclusive) we make an adjustment of one day, because we have a leap Julian year (where 29 February exists)
@@ -160,6 +224,9 @@ class JulianDate{
      */
     ld = ld.plusDays(offset); /* 'plusDays' method adds a number of days and automatically changes the month and year fields if necessary; it also works with negative arguments */
 
+    if (EasterMetrics.ENABLED)
+      EasterMetrics.JULIAN_TO_GREGORIAN.record(startTime);
+
     return ld;
 
   }
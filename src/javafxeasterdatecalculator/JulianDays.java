@@ -0,0 +1,149 @@
+package javafxeasterdatecalculator;
+
+/*
+ * This class converts Julian calendar dates to Gregorian epoch days (number of days since 1 January 1970, as used by LocalDate.toEpochDay())
+ * and back, using integer arithmetic only.
+ *
+ * It is a primitive alternative to JulianDate.julianDateToGregorianDate(), meant for code that converts many dates:
+ * no JulianDate, LocalDate or other object is created, and no floating point operation is used.
+ * The Gregorian date itself can be obtained, when needed, with LocalDate.ofEpochDay().
+ *
+ * A Julian date can be given either as three ints, or packed into a single long value (see "pack" method), or as a Julian Day Number.
+ * Like JulianDate, this class uses astronomical year numbering (year 0 is 1 BC, year -1 is 2 BC and so on).
+ *
+ * The methods of this class do not validate the dates they receive. Invalid dates (such as 31 April) give meaningless results,
+ * so the dates must come from a trusted source (for example an Easter algorithm) or be validated beforehand.
+ *
+ * The conversion gives the same result as JulianDate.julianDateToGregorianDate(), including the February 29 dates that only exist in Julian calendar.
+ * Unlike that method, it does not fail when the result is outside the years accepted by LocalDate.
+ */
+final class JulianDays {
+
+  /* Julian Day Number of 1 January 1970 (Gregorian), which is epoch day 0 */
+  static final long EPOCH_JULIAN_DAY_NUMBER = 2440588;
+
+  /* bit layout of packed dates: the year takes the upper bits, followed by 4 bits for the month and 5 bits for the day */
+  private static final int MONTH_SHIFT = 5;
+  private static final int YEAR_SHIFT = 9;
+
+  /* number of days in a 4 years Julian cycle, and epoch day of 1 March of year 0 on Julian calendar */
+  static final int DAYS_PER_CYCLE = 4*365 + 1;
+  static final long JULIAN_MARCH_FIRST_0000 = Computus.julianMarchFirstEpochDay(0);
+
+  /* the days of a year counted from March 1 that are in January or February of the next year start at this day (306 days after March 1) */
+  private static final int FIRST_JANUARY_OF_MARCH_YEAR = 306;
+  private static final short[] MARCH_YEAR_DAYS = createMarchYearDays();
+
+  private JulianDays(){
+  }
+
+  /*
+   * Returns the Gregorian epoch day of the given Julian date.
+   *
+   * The year is counted from March 1, so that February (and its 29th day) is the last month of the year. This way,
+   * the number of days before each month does not depend on whether the year is a leap year: (153*m + 2)/5 for m months after March.
+   */
+  static long toEpochDay(int year, int month, int day){
+
+    int marchYear = (month <= 2) ? year - 1 : year;
+    int monthsAfterMarch = (month <= 2) ? month + 9 : month - 3;
+
+    return Computus.julianMarchFirstEpochDay(marchYear) + (153*monthsAfterMarch + 2) / 5 + day - 1;
+
+  }
+
+  /* Returns the Julian Day Number of the given Julian date */
+  static long toJulianDayNumber(int year, int month, int day){
+    return toEpochDay(year, month, day) + EPOCH_JULIAN_DAY_NUMBER;
+  }
+
+  /* Julian Day Numbers count days continuously, regardless of calendar, so converting them to epoch days is just a matter of moving the origin */
+  static long julianDayNumberToEpochDay(long julianDayNumber){
+    return julianDayNumber - EPOCH_JULIAN_DAY_NUMBER;
+  }
+
+  static long epochDayToJulianDayNumber(long epochDay){
+    return epochDay + EPOCH_JULIAN_DAY_NUMBER;
+  }
+
+  /*
+   * Packs a Julian date into a single long value. Packed dates keep the chronological order of the dates,
+   * so they can be sorted or compared directly.
+   * A long is used (instead of an int) because years accepted by LocalDate need 31 bits by themselves.
+   */
+  static long pack(int year, int month, int day){
+    return ((long)year << YEAR_SHIFT) | (month << MONTH_SHIFT) | day;
+  }
+
+  static int yearOfPacked(long packedDate){
+    return (int)(packedDate >> YEAR_SHIFT);
+  }
+
+  static int monthOfPacked(long packedDate){
+    return (int)(packedDate >>> MONTH_SHIFT) & 0xF;
+  }
+
+  static int dayOfPacked(long packedDate){
+    return (int)packedDate & 0x1F;
+  }
+
+  /* Returns the Gregorian epoch day of a Julian date packed with "pack" method */
+  static long packedToEpochDay(long packedDate){
+    return toEpochDay(yearOfPacked(packedDate), monthOfPacked(packedDate), dayOfPacked(packedDate));
+  }
+
+  /*
+   * Returns the Julian date of the given Gregorian epoch day, packed as described above; this is the inverse of "toEpochDay" method.
+   *
+   * The days are counted in 4 years cycles from 1 March of year 0 (Julian), and inside a cycle the year is counted from March 1,
+   * so that February 29 is the last day of the fourth year of the cycle and the months do not depend on leap years.
+   */
+  static long fromEpochDay(long epochDay){
+
+    long shiftedDay = epochDay - JULIAN_MARCH_FIRST_0000;
+    long cycle = Math.floorDiv(shiftedDay, DAYS_PER_CYCLE);
+    int dayOfCycle = (int)(shiftedDay - cycle*DAYS_PER_CYCLE);
+    int yearOfCycle = yearOfCycle(dayOfCycle);
+
+    return packMarchYearDay((int)(cycle*4) + yearOfCycle, dayOfCycle - 365*yearOfCycle);
+
+  }
+
+  /* Returns the year (0 to 3) of a day of a 4 years cycle; the last day of the cycle (February 29) would start a fifth year, so it is kept in the fourth one */
+  static int yearOfCycle(int dayOfCycle){
+    return Math.min(dayOfCycle / 365, 3);
+  }
+
+  /* Returns the Julian date of the given Julian Day Number, packed as described above */
+  static long fromJulianDayNumber(long julianDayNumber){
+    return fromEpochDay(julianDayNumberToEpochDay(julianDayNumber));
+  }
+
+  /* Returns the packed date of the given day (counted from 0) of a year counted from March 1, looking up its month and day in MARCH_YEAR_DAYS */
+  static long packMarchYearDay(int marchYear, int dayOfMarchYear){
+    int year = (dayOfMarchYear >= FIRST_JANUARY_OF_MARCH_YEAR) ? marchYear + 1 : marchYear;
+    return ((long)year << YEAR_SHIFT) | MARCH_YEAR_DAYS[dayOfMarchYear];
+  }
+
+  /* Returns the month and day bits of a packed date, for each day of a year counted from March 1, so that converting a date does not need any division */
+  private static short[] createMarchYearDays(){
+
+    short[] monthDays = new short[366];
+
+    for (int dayOfMarchYear = 0; dayOfMarchYear < monthDays.length; dayOfMarchYear++) {
+      int monthsAfterMarch = (5*dayOfMarchYear + 2) / 153;
+      int day = dayOfMarchYear - (153*monthsAfterMarch + 2)/5 + 1;
+      int month = (monthsAfterMarch < 10) ? monthsAfterMarch + 3 : monthsAfterMarch - 9;
+      monthDays[dayOfMarchYear] = (short)((month << MONTH_SHIFT) | day);
+    }
+
+    return monthDays;
+
+  }
+
+  /* The same value as JulianDate.getSecularDifference(), computed without floating point operations */
+  static int secularDifference(int year){
+    return Math.floorDiv(year, 100) - Math.floorDiv(year, 400) - 2;
+  }
+
+}
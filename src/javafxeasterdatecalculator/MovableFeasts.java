@@ -0,0 +1,458 @@
+package javafxeasterdatecalculator;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Year;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * This class computes the movable feasts of a range of years: the feasts that are always the same number of days before or after Easter.
+ *
+ * Easter is computed only once per year (by ComputusKernel, like for EasterYearRange), and every feast is then obtained by adding its
+ * number of days to Easter, so computing many feasts costs little more than computing Easter alone. The Western feasts are derived
+ * from Western Easter (Gregorian calendar), and the Eastern (Orthodox) feasts from Eastern Easter converted to Gregorian calendar,
+ * exactly as EasterCalculations.getWesternEasterOnGregorianCalendar(year).plusDays(days) and
+ * JulianDate.julianDateToGregorianDate().plusDays(days) would give them.
+ *
+ * The feasts are identified by the int constants below (indexes into NAMES, EASTERN and DAYS_FROM_EASTER), and are available:
+ *   - as columns of Gregorian epoch days held in ints, computed in parallel for the years in [0, MAX_COLUMN_YEAR];
+ *     an int epoch day covers more than five million years, and takes half the memory of the long values of EasterYearRange;
+ *   - as CSV lines (year, then the date of each feast), written as bytes into a channel while the years are computed,
+ *     for all the years accepted by EasterYearRange, without holding the results in memory; only Eastern Easter is converted
+ *     to a Gregorian date, and the other dates of the line are found from the Easter dates with a few additions.
+ * Like EasterYearRange, the feasts are computed for all the years (on proleptic calendars), regardless of the rules used by the application.
+ */
+final class MovableFeasts {
+
+  /* Western feasts (Gregorian calendar) */
+  static final int SEPTUAGESIMA = 0;
+  static final int SEXAGESIMA = 1;
+  static final int QUINQUAGESIMA = 2;
+  static final int SHROVE_TUESDAY = 3;
+  static final int ASH_WEDNESDAY = 4;
+  static final int QUADRAGESIMA = 5;
+  static final int LAETARE_SUNDAY = 6;
+  static final int PASSION_SUNDAY = 7;
+  static final int PALM_SUNDAY = 8;
+  static final int MAUNDY_THURSDAY = 9;
+  static final int GOOD_FRIDAY = 10;
+  static final int HOLY_SATURDAY = 11;
+  static final int EASTER = 12;
+  static final int EASTER_MONDAY = 13;
+  static final int LOW_SUNDAY = 14;
+  static final int ROGATION_MONDAY = 15;
+  static final int ASCENSION = 16;
+  static final int PENTECOST = 17;
+  static final int WHIT_MONDAY = 18;
+  static final int TRINITY_SUNDAY = 19;
+  static final int CORPUS_CHRISTI = 20;
+  static final int SACRED_HEART = 21;
+
+  /* Eastern (Orthodox) feasts, as Gregorian dates */
+  static final int ORTHODOX_PUBLICAN_AND_PHARISEE = 22;
+  static final int ORTHODOX_PRODIGAL_SON = 23;
+  static final int ORTHODOX_MEATFARE_SUNDAY = 24;
+  static final int ORTHODOX_CHEESEFARE_SUNDAY = 25;
+  static final int ORTHODOX_CLEAN_MONDAY = 26;
+  static final int ORTHODOX_LAZARUS_SATURDAY = 27;
+  static final int ORTHODOX_PALM_SUNDAY = 28;
+  static final int ORTHODOX_HOLY_FRIDAY = 29;
+  static final int ORTHODOX_PASCHA = 30;
+  static final int ORTHODOX_THOMAS_SUNDAY = 31;
+  static final int ORTHODOX_MID_PENTECOST = 32;
+  static final int ORTHODOX_ASCENSION = 33;
+  static final int ORTHODOX_PENTECOST = 34;
+  static final int ORTHODOX_ALL_SAINTS_SUNDAY = 35;
+
+  static final int FEASTS = 36;
+
+  static final String[] NAMES = {
+    "septuagesima", "sexagesima", "quinquagesima", "shrove-tuesday", "ash-wednesday", "quadragesima", "laetare-sunday",
+    "passion-sunday", "palm-sunday", "maundy-thursday", "good-friday", "holy-saturday", "easter", "easter-monday", "low-sunday",
+    "rogation-monday", "ascension", "pentecost", "whit-monday", "trinity-sunday", "corpus-christi", "sacred-heart",
+    "orthodox-publican-and-pharisee", "orthodox-prodigal-son", "orthodox-meatfare-sunday", "orthodox-cheesefare-sunday",
+    "orthodox-clean-monday", "orthodox-lazarus-saturday", "orthodox-palm-sunday", "orthodox-holy-friday", "orthodox-pascha",
+    "orthodox-thomas-sunday", "orthodox-mid-pentecost", "orthodox-ascension", "orthodox-pentecost", "orthodox-all-saints-sunday"
+  };
+
+  static final int[] DAYS_FROM_EASTER = {
+    -63, -56, -49, -47, -46, -42, -21, -14, -7, -3, -2, -1, 0, 1, 7, 36, 39, 49, 50, 56, 60, 68,
+    -70, -63, -56, -49, -48, -8, -7, -2, 0, 7, 24, 39, 49, 56
+  };
+
+  /* true for the feasts derived from Eastern Easter */
+  static final boolean[] EASTERN = new boolean[FEASTS];
+
+  static {
+    for (int feast = ORTHODOX_PUBLICAN_AND_PHARISEE; feast < FEASTS; feast++)
+      EASTERN[feast] = true;
+  }
+
+  /* the last year whose feasts are available as int epoch days (the Eastern feasts drift later, so this stays clear of the int limit) */
+  static final int MAX_COLUMN_YEAR = 5000000;
+
+  /* number of years below which a block of columns is no longer split into smaller blocks, and number of years exported at once */
+  private static final int BLOCK_SIZE = 1 << 14;
+
+  /* a CSV line is always shorter than this: a year, then a comma and a date (of at most 18 bytes, for the far years) for each feast */
+  private static final int MAX_YEAR_BYTES = 16;
+  private static final int MAX_DATE_BYTES = 20;
+
+  private static final int EXPORT_BUFFER_SIZE = 1 << 20;
+
+  /* number of days from March 1 to January 1 of the next year */
+  private static final int DAYS_MARCH_TO_JANUARY = 306;
+
+  private MovableFeasts(){
+  }
+
+  /* Returns the index of the feast with the given name, or -1 if there is none */
+  static int find(String name){
+
+    for (int feast = 0; feast < FEASTS; feast++)
+      if (NAMES[feast].equals(name))
+        return feast;
+
+    return -1;
+
+  }
+
+  /* Returns all the feasts, in the order of their constants */
+  static int[] allFeasts(){
+
+    int[] feasts = new int[FEASTS];
+    for (int feast = 0; feast < FEASTS; feast++)
+      feasts[feast] = feast;
+
+    return feasts;
+
+  }
+
+  /*
+   * Returns the Gregorian epoch days of the given feasts, for the years in [startYear, endYear):
+   * columns[i][year - startYear] is the epoch day of feasts[i] in that year.
+   */
+  static int[][] computeEpochDayColumns(int startYear, int endYear, int[] feasts){
+
+    if ((startYear < 0) || (endYear < startYear) || (endYear > MAX_COLUMN_YEAR + 1))
+      throw new IllegalArgumentException("Invalid year range for epoch day columns: ["+startYear+", "+endYear+")");
+    checkFeasts(feasts);
+
+    int[][] columns = new int[feasts.length][endYear - startYear];
+    ForkJoinPool.commonPool().invoke(new ColumnTask(feasts, columns, startYear, endYear, 0));
+
+    return columns;
+
+  }
+
+  /* Computes the columns of the years in [fromYear, toYear), starting at the given position of the columns */
+  static void computeEpochDays(int[] feasts, int[][] columns, int fromYear, int toYear, int position){
+
+    int count = toYear - fromYear;
+    byte[] offsets = new byte[count];
+    int[] easter = new int[count];
+
+    for (int calendar = 0; calendar < 2; calendar++) {
+
+      boolean eastern = (calendar == 1);
+      if (!uses(feasts, eastern))
+        continue;
+
+      /* Easter of each year, once; the epoch day of March 22 of each year is added to the offsets returned by the kernel */
+      EasterYearRange.computeOffsets(eastern ? EasterYearRange.JULIAN_OFFSET : EasterYearRange.WESTERN_OFFSET, fromYear, toYear, offsets, 0);
+      for (int i = 0; i < count; i++) {
+        long marchFirst = eastern ? Computus.julianMarchFirstEpochDay(fromYear + i) : Computus.gregorianMarchFirstEpochDay(fromYear + i);
+        easter[i] = (int)(marchFirst + (Computus.EARLIEST_EASTER_DAY - 1)) + offsets[i];
+      }
+
+      /* then each feast is a simple addition, which the JIT compiler turns into SIMD instructions */
+      for (int f = 0; f < feasts.length; f++) {
+        if (EASTERN[feasts[f]] != eastern)
+          continue;
+        int days = DAYS_FROM_EASTER[feasts[f]];
+        int[] column = columns[f];
+        for (int i = 0; i < count; i++)
+          column[position + i] = easter[i] + days;
+      }
+
+    }
+
+  }
+
+  /*
+   * Writes the CSV lines of the given feasts for the years in [startYear, endYear) into the channel: a header line
+   * ("year" and the names of the feasts), then the year and the dates (formatted like LocalDate.toString()) of each year.
+   * Returns the number of bytes written. The channel is not closed.
+   */
+  static long export(int startYear, int endYear, int[] feasts, WritableByteChannel channel) throws IOException {
+
+    if ((startYear < 0) || (endYear < startYear) || (endYear > Year.MAX_VALUE + 1))
+      throw new IllegalArgumentException("Invalid year range: ["+startYear+", "+endYear+")");
+    checkFeasts(feasts);
+
+    int maxLineBytes = MAX_YEAR_BYTES + MAX_DATE_BYTES*feasts.length;
+    byte[] output = new byte[Math.max(EXPORT_BUFFER_SIZE, maxLineBytes)];
+    int length = 0;
+    long bytesWritten = 0;
+
+    length = putAscii(output, length, "year");
+    for (int feast : feasts) {
+      output[length++] = ',';
+      length = putAscii(output, length, NAMES[feast]);
+    }
+    output[length++] = '\n';
+
+    boolean western = uses(feasts, false), eastern = uses(feasts, true);
+    byte[] westernOffsets = new byte[BLOCK_SIZE], julianOffsets = new byte[BLOCK_SIZE];
+    DateFormatter westernDates = new DateFormatter(), easternDates = new DateFormatter();
+
+    for (int fromYear = startYear; fromYear < endYear; ) {
+
+      int toYear = (int)Math.min((long)fromYear + BLOCK_SIZE, endYear);
+
+      if (western)
+        EasterYearRange.computeOffsets(EasterYearRange.WESTERN_OFFSET, fromYear, toYear, westernOffsets, 0);
+      if (eastern)
+        EasterYearRange.computeOffsets(EasterYearRange.JULIAN_OFFSET, fromYear, toYear, julianOffsets, 0);
+
+      for (int year = fromYear; year < toYear; year++) {
+
+        if (output.length - length < maxLineBytes) {
+          bytesWritten += drain(output, length, channel);
+          length = 0;
+        }
+
+        /* Easter of each calendar, as a number of days after March 1 of a year (Western Easter is always in the same year) */
+        int westernDays = (Computus.EARLIEST_EASTER_DAY - 1) + westernOffsets[year - fromYear];
+        int easternYear = 0, easternDays = 0;
+
+        if (eastern) {
+          long easternDate = GregorianDays.toPackedDate(Computus.julianMarchFirstEpochDay(year) + (Computus.EARLIEST_EASTER_DAY - 1) + julianOffsets[year - fromYear]);
+          int month = JulianDays.monthOfPacked(easternDate);
+          int monthsAfterMarch = (month >= 3) ? month - 3 : month + 9;
+          easternYear = JulianDays.yearOfPacked(easternDate) - ((month < 3) ? 1 : 0);
+          easternDays = (153*monthsAfterMarch + 2)/5 + JulianDays.dayOfPacked(easternDate) - 1;
+        }
+
+        length = putNumber(output, length, year);
+        for (int feast : feasts) {
+          output[length++] = ',';
+          if (EASTERN[feast])
+            length = easternDates.put(output, length, easternYear, easternDays + DAYS_FROM_EASTER[feast]);
+          else
+            length = westernDates.put(output, length, year, westernDays + DAYS_FROM_EASTER[feast]);
+        }
+        output[length++] = '\n';
+
+      }
+
+      fromYear = toYear;
+
+    }
+
+    return bytesWritten + drain(output, length, channel);
+
+  }
+
+  private static long drain(byte[] output, int length, WritableByteChannel channel) throws IOException {
+
+    ByteBuffer buffer = ByteBuffer.wrap(output, 0, length);
+    while (buffer.hasRemaining())
+      channel.write(buffer);
+
+    return length;
+
+  }
+
+  /* the names of the feasts are made of ASCII characters only, so each character is one byte */
+  private static int putAscii(byte[] output, int position, String text){
+    for (int i = 0; i < text.length(); i++)
+      output[position++] = (byte)text.charAt(i);
+    return position;
+  }
+
+  /*
+   * Writes a non-negative number in decimal, and returns the position after it.
+   * The digits are written from the last one, so that the number is only divided by the constant 10, which the JIT compiler turns into a multiplication.
+   */
+  private static int putNumber(byte[] output, int position, int number){
+
+    int digits = 1;
+    for (int rest = number / 10; rest > 0; rest /= 10)
+      digits++;
+
+    for (int i = position + digits - 1; i >= position; i--) {
+      output[i] = (byte)('0' + number % 10);
+      number /= 10;
+    }
+
+    return position + digits;
+
+  }
+
+  /*
+   * Writes dates in the format of LocalDate.toString(), given as a number of days after March 1 of a year.
+   *
+   * Counting from March makes the leap day the last day of the year, so the month and the day only depend on the number of days,
+   * and are copied from a table. The dates of a line are nearly always in the same year, so the year is only formatted when it changes.
+   */
+  private static final class DateFormatter {
+
+    /* "MM-DD" for each number of days after March 1 (the last one is February 29) */
+    private static final byte[] MONTH_DAYS = new byte[366 * 5];
+
+    static {
+      for (int days = 0; days < 366; days++) {
+        int monthsAfterMarch = (5*days + 2) / 153;
+        int day = days - (153*monthsAfterMarch + 2)/5 + 1;
+        int month = (days < DAYS_MARCH_TO_JANUARY) ? monthsAfterMarch + 3 : monthsAfterMarch - 9;
+        MONTH_DAYS[days*5] = (byte)('0' + month / 10);
+        MONTH_DAYS[days*5 + 1] = (byte)('0' + month % 10);
+        MONTH_DAYS[days*5 + 2] = '-';
+        MONTH_DAYS[days*5 + 3] = (byte)('0' + day / 10);
+        MONTH_DAYS[days*5 + 4] = (byte)('0' + day % 10);
+      }
+    }
+
+    /* the last formatted year, followed by '-' */
+    private final byte[] year = new byte[16];
+    private int formattedYear = -1, yearLength;
+
+    /* Writes the date which is the given number of days after March 1 of marchYear (the days may be negative, or beyond that year by less than a year) */
+    int put(byte[] output, int position, int marchYear, int days){
+
+      if (days < 0) {
+        marchYear--;
+        days += marchYearLength(marchYear);
+      }
+      else if (days >= marchYearLength(marchYear)) {
+        days -= marchYearLength(marchYear);
+        marchYear++;
+      }
+
+      int calendarYear = (days < DAYS_MARCH_TO_JANUARY) ? marchYear : marchYear + 1;
+      if (calendarYear != formattedYear)
+        formatYear(calendarYear);
+
+      System.arraycopy(year, 0, output, position, yearLength);
+      System.arraycopy(MONTH_DAYS, days*5, output, position + yearLength, 5);
+
+      return position + yearLength + 5;
+
+    }
+
+    /* years of more than 4 digits start with '+', and the others have 4 digits, like in LocalDate.toString() */
+    private void formatYear(int calendarYear){
+
+      int length = 0;
+      if (calendarYear > 9999) {
+        year[length++] = '+';
+        length = putNumber(year, length, calendarYear);
+      }
+      else {
+        year[length++] = (byte)('0' + calendarYear / 1000);
+        year[length++] = (byte)('0' + (calendarYear / 100) % 10);
+        year[length++] = (byte)('0' + (calendarYear / 10) % 10);
+        year[length++] = (byte)('0' + calendarYear % 10);
+      }
+      year[length++] = '-';
+
+      formattedYear = calendarYear;
+      yearLength = length;
+
+    }
+
+  }
+
+  /* number of days from March 1 of the given year to March 1 of the next one, which includes the leap day of the next year */
+  private static int marchYearLength(int marchYear){
+    int year = marchYear + 1;
+    return ((year % 4 == 0) && ((year % 100 != 0) || (year % 400 == 0))) ? 366 : 365;
+  }
+
+  private static boolean uses(int[] feasts, boolean eastern){
+
+    for (int feast : feasts)
+      if (EASTERN[feast] == eastern)
+        return true;
+
+    return false;
+
+  }
+
+  private static void checkFeasts(int[] feasts){
+    for (int feast : feasts)
+      if ((feast < 0) || (feast >= FEASTS))
+        throw new IllegalArgumentException("Unknown feast: "+feast);
+  }
+
+  /* Fork/join task which splits the range of years in halves, until the blocks are small enough to be computed directly. */
+  private static final class ColumnTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] feasts;
+    private final int[][] columns;
+    private final int fromYear, toYear, position;
+
+    ColumnTask(int[] feasts, int[][] columns, int fromYear, int toYear, int position){
+      this.feasts = feasts;
+      this.columns = columns;
+      this.fromYear = fromYear;
+      this.toYear = toYear;
+      this.position = position;
+    }
+
+    @Override
+    protected void compute(){
+
+      if (toYear - fromYear <= BLOCK_SIZE)
+        computeEpochDays(feasts, columns, fromYear, toYear, position);
+      else {
+        int middleYear = fromYear + (toYear - fromYear) / 2;
+        invokeAll(new ColumnTask(feasts, columns, fromYear, middleYear, position),
+                  new ColumnTask(feasts, columns, middleYear, toYear, position + (middleYear - fromYear)));
+      }
+
+    }
+
+  }
+
+  /* Writes the movable feasts of a range of years as CSV to the standard output: startYear endYear [feast,feast,...] */
+  public static void main(String[] args) throws IOException {
+
+    if ((args.length < 2) || (args.length > 3)) {
+      System.err.println("Usage: java javafxeasterdatecalculator.MovableFeasts startYear endYear [feast,feast,...]");
+      System.exit(1);
+    }
+
+    int startYear = Integer.parseInt(args[0]);
+    int endYear = Integer.parseInt(args[1]);
+    int[] feasts = allFeasts();
+
+    if (args.length == 3) {
+      String[] names = args[2].split(",");
+      feasts = new int[names.length];
+      for (int i = 0; i < names.length; i++)
+        if ((feasts[i] = find(names[i].trim())) < 0)
+          throw new IllegalArgumentException("Unknown feast: "+names[i]);
+    }
+
+    long startTime = System.nanoTime();
+    long bytesWritten;
+
+    try (WritableByteChannel output = Channels.newChannel(new FileOutputStream(FileDescriptor.out))) {
+      bytesWritten = export(startYear, endYear, feasts, output);
+    }
+
+    double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.err.printf("%d feasts of %d years written in %.3f s (%d bytes).%n", feasts.length, (long)endYear - startYear, seconds, bytesWritten);
+
+  }
+
+}
@@ -0,0 +1,80 @@
+#!/bin/sh
+#
+# Measures the startup of the command line launcher (EasterLauncher), with and without class data sharing,
+# and appends the results to startup-history.csv, so that the startup cost can be tracked over time.
+#
+# Requires at least JDK 13 (dynamic AppCDS archives) and a Linux system (for the peak memory report).
+# Usage (from any folder):
+#   sh startup/measure-startup.sh
+# The number of runs of each configuration can be changed with the RUNS variable, and the JDK with JAVA_HOME.
+#
+
+set -e
+
+STARTUP_DIR=$(cd "$(dirname "$0")" && pwd)
+SOURCE_DIR="$STARTUP_DIR/../src"
+BUILD_DIR="$STARTUP_DIR/target"
+HISTORY="$STARTUP_DIR/startup-history.csv"
+
+RUNS=${RUNS:-20}
+YEAR=${YEAR:-2024}
+
+if [ -n "$JAVA_HOME" ]; then
+  JAVA="$JAVA_HOME/bin/java"
+  JAVAC="$JAVA_HOME/bin/javac"
+  JAR="$JAVA_HOME/bin/jar"
+else
+  JAVA=java
+  JAVAC=javac
+  JAR=jar
+fi
+
+LAUNCHER_JAR="$BUILD_DIR/easter-launcher.jar"
+ARCHIVE="$BUILD_DIR/easter-launcher.jsa"
+MAIN_CLASS=javafxeasterdatecalculator.EasterLauncher
+
+# The launcher is compiled alone, so only the classes it really uses (and no JavaFX class) end up in the jar.
+rm -rf "$BUILD_DIR"
+mkdir -p "$BUILD_DIR/classes"
+"$JAVAC" --release 17 -nowarn -d "$BUILD_DIR/classes" -sourcepath "$SOURCE_DIR" "$SOURCE_DIR/javafxeasterdatecalculator/EasterLauncher.java"
+"$JAR" --create --file "$LAUNCHER_JAR" --main-class "$MAIN_CLASS" -C "$BUILD_DIR/classes" .
+
+# Training run: the classes loaded by the launcher are written into a dynamic archive when the JVM exits.
+"$JAVA" -XX:ArchiveClassesAtExit="$ARCHIVE" -jar "$LAUNCHER_JAR" "$YEAR" > /dev/null
+
+JAVA_VERSION=$("$JAVA" -XshowSettings:properties -version 2>&1 | sed -n 's/^ *java\.version = //p')
+
+if [ ! -f "$HISTORY" ]; then
+  echo "date,java_version,configuration,runs,average_ms,peak_rss_kb" > "$HISTORY"
+fi
+
+# Runs the launcher RUNS times with the given JVM options, then appends the average wall time and the peak RSS of the last run.
+measure(){
+
+  configuration=$1
+  shift
+
+  # one run before measuring, so that the files are in the page cache
+  "$JAVA" "$@" -jar "$LAUNCHER_JAR" "$YEAR" > /dev/null
+
+  start=$(date +%s%N)
+  i=0
+  while [ $i -lt "$RUNS" ]; do
+    "$JAVA" "$@" -jar "$LAUNCHER_JAR" "$YEAR" > /dev/null
+    i=$((i + 1))
+  done
+  end=$(date +%s%N)
+
+  average_ms=$(( (end - start) / RUNS / 1000000 ))
+  rss_kb=$("$JAVA" "$@" -Djavafxeasterdatecalculator.startupReport=true -jar "$LAUNCHER_JAR" "$YEAR" 2>&1 > /dev/null | sed -n 's/^Peak RSS: *\([0-9]*\).*/\1/p')
+
+  echo "$(date +%Y-%m-%d),$JAVA_VERSION,$configuration,$RUNS,$average_ms,$rss_kb" >> "$HISTORY"
+  printf "%-24s %6s ms %10s kB\n" "$configuration" "$average_ms" "$rss_kb"
+
+}
+
+printf "%-24s %9s %13s\n" "configuration" "average" "peak RSS"
+measure no-cds -Xshare:off
+measure default-cds
+measure appcds -XX:SharedArchiveFile="$ARCHIVE"
+measure appcds-c1-serial -XX:SharedArchiveFile="$ARCHIVE" -XX:TieredStopAtLevel=1 -XX:+UseSerialGC